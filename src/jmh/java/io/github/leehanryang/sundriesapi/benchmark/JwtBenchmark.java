@@ -0,0 +1,57 @@
+package io.github.leehanryang.sundriesapi.benchmark;
+
+import io.github.leehanryang.sundriesapi.common.security.jwt.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.UUID;
+
+/**
+ * JWT 발급·검증 비용 (요청당 인증 필터 경로)
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private UUID userId;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        set("secret", "benchmark-secret-key-must-be-at-least-32-bytes!!");
+        set("expireSeconds", 3600L);
+        set("cacheSize", 10_000L);
+        Method init = JwtUtil.class.getDeclaredMethod("init");
+        init.setAccessible(true);
+        init.invoke(jwtUtil);
+
+        userId = UUID.randomUUID();
+        token = jwtUtil.generateToken(userId, "bench", "bench@test.com", "ROLE_USER");
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(userId, "bench", "bench@test.com", "ROLE_USER");
+    }
+
+    /* 서명 검증 + JSON 파싱 전체 경로 */
+    @Benchmark
+    public boolean parse() {
+        return jwtUtil.validate(token);
+    }
+
+    /* 검증 결과 캐시 적중 경로 */
+    @Benchmark
+    public Object authenticateCached() {
+        return jwtUtil.authenticate(token);
+    }
+
+    private void set(String name, Object value) throws Exception {
+        Field f = JwtUtil.class.getDeclaredField(name);
+        f.setAccessible(true);
+        f.set(jwtUtil, value);
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.leehanryang.sundriesapi.benchmark;
+
+import io.github.leehanryang.sundriesapi.common.security.principal.CustomUserPrincipal;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+import io.github.leehanryang.sundriesapi.domain.entity.Todo;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 엔티티 → DTO 매핑, 권한 컬렉션 생성 비용
+ */
+@State(Scope.Benchmark)
+public class TodoMappingBenchmark {
+
+    private Todo todo;
+    private CustomUserPrincipal principal;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        todo = Todo.builder()
+                .id(UUID.randomUUID())
+                .title("벤치마크 Todo")
+                .description("TodoDTO.from 매핑 비용 측정용 설명")
+                .completed(false)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        principal = new CustomUserPrincipal(UUID.randomUUID(), "bench", null, Set.of("ROLE_USER"));
+    }
+
+    @Benchmark
+    public TodoDTO todoDtoFrom() {
+        return TodoDTO.from(todo);
+    }
+
+    @Benchmark
+    public Collection<?> principalAuthorities() {
+        return principal.getAuthorities();
+    }
+}
@@ -0,0 +1,54 @@
+package io.github.leehanryang.sundriesapi.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * GET /todos 응답 직렬화 비용 (Spring 기본 ObjectMapper 구성, Blackbird 모듈 적용 비교)
+ */
+@State(Scope.Benchmark)
+public class TodoSerializationBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper blackbirdMapper;
+    private List<TodoDTO> todos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        blackbirdMapper = Jackson2ObjectMapperBuilder.json().modulesToInstall(new BlackbirdModule()).build();
+        LocalDateTime now = LocalDateTime.now();
+        todos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            todos.add(TodoDTO.builder()
+                    .id(UUID.randomUUID())
+                    .title("Todo " + i)
+                    .description("직렬화 비용 측정용 설명 " + i)
+                    .completed(i % 2 == 0)
+                    .createdAt(now.minusMinutes(i))
+                    .updatedAt(now)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return objectMapper.writeValueAsBytes(todos);
+    }
+
+    @Benchmark
+    public byte[] serializeListBlackbird() throws Exception {
+        return blackbirdMapper.writeValueAsBytes(todos);
+    }
+}
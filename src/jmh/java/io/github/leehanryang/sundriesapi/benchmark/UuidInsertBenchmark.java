@@ -0,0 +1,98 @@
+package io.github.leehanryang.sundriesapi.benchmark;
+
+import io.github.leehanryang.sundriesapi.common.jpa.UuidV7Generator;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * BINARY(16) PK 삽입 비용 – 무작위 UUIDv4 vs 시간 순 UUIDv7
+ * <p>
+ * todos_tbl 과 같은 구조의 테이블에 preloadRows 건을 미리 채운 뒤, 10,000건 배치 삽입 시간을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 10)
+@Fork(1)
+public class UuidInsertBenchmark {
+
+    private static final int BATCH = 10_000;
+
+    @Param({"V4", "V7"})
+    private String strategy;
+
+    @Param({"1000000"})
+    private int preloadRows;
+
+    private Path dbFile;
+    private Connection connection;
+    private Supplier<UUID> ids;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        ids = "V7".equals(strategy) ? UuidV7Generator::next : UUID::randomUUID;
+        dbFile = Files.createTempFile("uuid-bench-", ".sqlite");
+        connection = DriverManager.getConnection("jdbc:sqlite:" + dbFile);
+        try (Statement st = connection.createStatement()) {
+            st.execute("PRAGMA journal_mode = WAL");
+            st.execute("PRAGMA synchronous = NORMAL");
+            st.execute("""
+                    CREATE TABLE todos_tbl (
+                        id BINARY(16) PRIMARY KEY,
+                        title VARCHAR(100) NOT NULL,
+                        completed BOOLEAN NOT NULL
+                    )
+                    """);
+        }
+        for (int loaded = 0; loaded < preloadRows; loaded += BATCH) {
+            insertBatch(Math.min(BATCH, preloadRows - loaded));
+        }
+    }
+
+    @Benchmark
+    public void insert10k() throws Exception {
+        insertBatch(BATCH);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        connection.close();
+        Files.deleteIfExists(dbFile);
+        Files.deleteIfExists(Path.of(dbFile + "-wal"));
+        Files.deleteIfExists(Path.of(dbFile + "-shm"));
+    }
+
+    private void insertBatch(int rows) throws Exception {
+        connection.setAutoCommit(false);
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO todos_tbl (id, title, completed) VALUES (?, ?, 0)")) {
+            for (int i = 0; i < rows; i++) {
+                ps.setBytes(1, toBytes(ids.get()));
+                ps.setString(2, "todo");
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+    }
+
+    /* Hibernate 의 UUID → BINARY 매핑과 같은 빅엔디언 순서 */
+    private static byte[] toBytes(UUID id) {
+        return ByteBuffer.allocate(16)
+                .putLong(id.getMostSignificantBits())
+                .putLong(id.getLeastSignificantBits())
+                .array();
+    }
+}
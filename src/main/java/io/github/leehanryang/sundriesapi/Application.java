@@ -3,9 +3,11 @@ package io.github.leehanryang.sundriesapi;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableJpaAuditing  // JPA Auditing 활성화
+@EnableScheduling   // 삭제 기록(tombstone) 정리 등 주기 작업
 public class Application {
     public static void main(String[] args) {
         SpringApplication.run(Application.class, args);
@@ -0,0 +1,36 @@
+package io.github.leehanryang.sundriesapi.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.server.Compression;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.boot.web.servlet.server.ConfigurableServletWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 응답 압축 설정 (Accept-Encoding 협상, Tomcat 은 gzip 지원)
+ * <p>
+ * - min-size 미만 응답은 압축 비용이 더 크므로 그대로 전송합니다.
+ * - text/event-stream 은 즉시 flush 가 필요하므로 대상에서 제외합니다.
+ * - 강한 ETag 응답은 Tomcat 이 압축하지 않으므로 조건부 GET 은 약한 ETag(W/) 를 사용합니다.
+ */
+@Configuration
+public class CompressionConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<ConfigurableServletWebServerFactory> compressionCustomizer(
+            @Value("${todo.compression.enabled:true}") boolean enabled,
+            @Value("${todo.compression.min-size:1KB}") DataSize minSize) {
+        return factory -> {
+            Compression compression = new Compression();
+            compression.setEnabled(enabled);
+            compression.setMinResponseSize(minSize);
+            compression.setMimeTypes(new String[]{
+                    "application/json", "application/problem+json", "text/plain", "text/html",
+                    "application/x-ndjson", "text/csv"
+            });
+            factory.setCompression(compression);
+        };
+    }
+}
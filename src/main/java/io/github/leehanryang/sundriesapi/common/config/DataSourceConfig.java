@@ -0,0 +1,87 @@
+package io.github.leehanryang.sundriesapi.common.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.leehanryang.sundriesapi.common.datasource.ReadWriteRoutingDataSource;
+import io.github.leehanryang.sundriesapi.common.datasource.ReadWriteRoutingDataSource.Route;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * SQLite 운영용 DataSource 구성
+ * <p>
+ * - 쓰기 : 단일 writer 커넥션 (SQLite 는 동시에 한 writer 만 허용 → 풀 내부에서 순서대로 대기)
+ * - 읽기 : query_only 커넥션 풀 (WAL 모드에서 writer 와 무관하게 병렬 조회)
+ * - 공통 PRAGMA : journal_mode=WAL, synchronous=NORMAL, busy_timeout, cache_size, mmap_size
+ * <p>
+ * {@code @Transactional(readOnly = true)} 는 읽기 풀로, 그 외는 writer 로 라우팅됩니다.
+ * 두 풀도 일반 빈으로 등록되지만(지표·종료 처리), 타입 주입은 {@code @Primary} 라우팅 DataSource 가 받습니다.
+ */
+@Configuration
+public class DataSourceConfig {
+
+    @Value("${todo.sqlite.busy-timeout-ms:5000}")
+    private int busyTimeoutMs;
+
+    @Value("${todo.sqlite.cache-size-kib:65536}") // 커넥션당 64MiB
+    private int cacheSizeKib;
+
+    @Value("${todo.sqlite.mmap-size-bytes:268435456}") // 256MiB
+    private long mmapSizeBytes;
+
+    @Value("${todo.sqlite.read-pool-size:0}") // 0 이면 CPU 코어 수
+    private int readPoolSize;
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteWriteDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource ds = createPool(properties, "sqlite-writer", meterRegistry);
+        ds.setMaximumPoolSize(1);
+        return ds;
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource sqliteReadDataSource(DataSourceProperties properties, MeterRegistry meterRegistry) {
+        HikariDataSource ds = createPool(properties, "sqlite-reader", meterRegistry);
+        ds.setMaximumPoolSize(readPoolSize > 0 ? readPoolSize : Runtime.getRuntime().availableProcessors());
+        ds.setConnectionInitSql("PRAGMA query_only = ON");
+        return ds;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("sqliteWriteDataSource") DataSource writer,
+                                 @Qualifier("sqliteReadDataSource") DataSource reader) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource();
+        routing.setTargetDataSources(Map.of(Route.WRITE, writer, Route.READ, reader));
+        routing.setDefaultTargetDataSource(writer);
+        routing.afterPropertiesSet();
+        // 실제 커넥션 획득을 첫 쿼리까지 지연 → 트랜잭션 readOnly 플래그가 반영된 뒤 라우팅
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private HikariDataSource createPool(DataSourceProperties properties, String poolName,
+                                        MeterRegistry meterRegistry) {
+        HikariDataSource ds = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        ds.setPoolName(poolName);
+        // hikaricp.connections.acquire / pending : writer 풀의 대기 시간이 곧 SQLite 쓰기 잠금 대기 시간
+        ds.setMetricRegistry(meterRegistry);
+        ds.addDataSourceProperty("journal_mode", "WAL");
+        ds.addDataSourceProperty("synchronous", "NORMAL");
+        ds.addDataSourceProperty("busy_timeout", String.valueOf(busyTimeoutMs));
+        ds.addDataSourceProperty("cache_size", String.valueOf(-cacheSizeKib)); // 음수 = KiB 단위
+        ds.addDataSourceProperty("mmap_size", String.valueOf(mmapSizeBytes));
+        // SQLite 는 기본값이 OFF – 참조(프록시)로만 연결한 Todo 작성자가 삭제된 회원이면 INSERT 를 거부
+        ds.addDataSourceProperty("foreign_keys", "true");
+        return ds;
+    }
+}
@@ -0,0 +1,21 @@
+package io.github.leehanryang.sundriesapi.common.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Jackson 공통 설정
+ * <p>
+ * - Blackbird : 리플렉션 대신 LambdaMetafactory 로 생성한 접근자로 getter·생성자를 호출합니다.
+ *   (Afterburner 의 Java 11+ 후속 모듈, Spring Boot 가 Module 빈을 ObjectMapper 에 자동 등록)
+ */
+@Configuration
+public class JacksonConfig {
+
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.leehanryang.sundriesapi.common.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Hibernate 공통 설정
+ * <p>
+ * - JDBC 배치 : 일괄 처리 시 INSERT/UPDATE/DELETE 를 batch-size 단위로 묶어 왕복 횟수를 줄입니다.
+ *   (Todo 의 UUID 는 애플리케이션에서 생성되므로 IDENTITY 와 달리 INSERT 배치가 가능합니다.)
+ * - 커넥션 반환 : 트랜잭션이 끝나면 물리 커넥션을 풀에 돌려줍니다.
+ *   한 요청 안에서도 트랜잭션마다 readOnly 여부에 맞는 풀(읽기 / writer)로 다시 라우팅되게 하기 위함입니다.
+ *   (기본값 DELAYED_ACQUISITION_AND_HOLD 는 첫 트랜잭션이 고른 커넥션을 세션이 끝날 때까지 붙잡습니다.)
+ * - Open Session In View 비활성화 (jpa.properties) : 세션이 요청 전체로 늘어나지 않도록 합니다.
+ */
+@Configuration
+@PropertySource("classpath:jpa.properties")
+public class JpaConfig {
+
+    @Value("${todo.jpa.batch-size:100}")
+    private int batchSize;
+
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return props -> {
+            props.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            props.put(AvailableSettings.ORDER_INSERTS, true);
+            props.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer connectionHandlingCustomizer() {
+        return props -> props.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -0,0 +1,29 @@
+package io.github.leehanryang.sundriesapi.common.config;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Actuator / Micrometer 구성
+ * <p>
+ * - 기본값은 metrics.properties (application.properties 로 덮어쓰기 가능)
+ * - Prometheus 스크랩 : http://127.0.0.1:8081/actuator/prometheus
+ * - 구간별 타이머
+ *   · http.server.requests : 컨트롤러 엔드포인트 (URI 템플릿별)
+ *   · app.service : 서비스 메서드 (@Timed)
+ *   · spring.data.repository.invocations : 리포지토리 호출
+ *   · jwt.parse / jwt.generate, password.encoder : 인증 연산
+ *   · hikaricp.connections.acquire / pending : SQLite 커넥션·쓰기 잠금 대기
+ */
+@Configuration
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+}
@@ -6,11 +6,18 @@ import io.github.leehanryang.sundriesapi.common.security.jwt.JwtAuthenticationFi
 import io.github.leehanryang.sundriesapi.common.security.jwt.JwtUtil;
 import io.github.leehanryang.sundriesapi.common.security.oauth2.OAuth2AuthenticationFailureHandler;
 import io.github.leehanryang.sundriesapi.common.security.oauth2.OAuth2AuthenticationSuccessHandler;
+import io.github.leehanryang.sundriesapi.common.security.AdaptiveBCryptPasswordEncoder;
+import io.github.leehanryang.sundriesapi.common.security.OffloadedPasswordEncoder;
+import io.github.leehanryang.sundriesapi.common.security.TimedPasswordEncoder;
 import io.github.leehanryang.sundriesapi.common.security.principal.CustomUserPrincipal;
 import io.github.leehanryang.sundriesapi.domain.repository.UserRepository;
 import io.github.leehanryang.sundriesapi.domain.service.CustomOAuth2UserService;
+import io.github.leehanryang.sundriesapi.domain.service.TokenRevocationService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -21,12 +28,13 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.AuthenticationFailureHandler;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Map;
+
 
 @Configuration
 @EnableMethodSecurity
@@ -35,13 +43,14 @@ public class SecurityConfig {
 
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService tokenRevocationService;
     private final RestAuthenticationEntryPoint authenticationEntryPoint;
     private final RestAccessDeniedHandler accessDeniedHandler;
     private final OAuth2AuthenticationFailureHandler oAuth2AuthenticationFailureHandler; // 추가
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() {
-        return new JwtAuthenticationFilter(jwtUtil);
+        return new JwtAuthenticationFilter(jwtUtil, tokenRevocationService);
     }
 
     @Bean
@@ -65,10 +74,13 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/users/signup",
                                 "/users/login",
+                                "/users/token/refresh",
                                 "/swagger-ui/**",
                                 "/v3/api-docs/**",
                                 "/oauth2/**",
-                                "/login/oauth2/**"
+                                "/login/oauth2/**",
+                                "/actuator/health",
+                                "/actuator/prometheus"   // management 포트는 127.0.0.1 에만 바인딩
                         ).permitAll()
                         .anyRequest().authenticated()
                 )
@@ -85,14 +97,42 @@ public class SecurityConfig {
     /* === Spring Security 6: UserDetailsService 필요 === */
     @Bean
     public UserDetailsService userDetailsService() {
-        return email -> userRepository.findByEmail(email)
+        return email -> userRepository.findWithRolesByEmail(email)
                 .map(CustomUserPrincipal::from)  // 메서드 참조 대신 람다식 사용
                 .orElseThrow(() -> new UsernameNotFoundException(email));
     }
 
+    /**
+     * 비밀번호 인코더
+     * <p>
+     * OffloadedPasswordEncoder(전용 풀·503) → TimedPasswordEncoder(해시 시간 측정)
+     * → DelegatingPasswordEncoder({bcrypt}) → AdaptiveBCryptPasswordEncoder(cost 자동 조정)
+     * <p>
+     * 접두어 없는 기존 BCrypt 해시도 검증되며, 로그인 성공 시 현재 cost 의 {bcrypt} 해시로 교체됩니다.
+     */
     @Bean
-    PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    OffloadedPasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${todo.password.target-ms:250}") long targetMillis,
+            @Value("${todo.password.min-cost:10}") int minCost,
+            @Value("${todo.password.max-cost:14}") int maxCost,
+            @Value("${todo.password.hash-threads:0}") int hashThreads,
+            @Value("${todo.password.hash-queue:32}") int hashQueue,
+            @Value("${todo.password.retry-after-seconds:1}") long retryAfterSeconds) {
+
+        AdaptiveBCryptPasswordEncoder bcrypt = new AdaptiveBCryptPasswordEncoder(targetMillis, minCost, maxCost);
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        int threads = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        OffloadedPasswordEncoder encoder = new OffloadedPasswordEncoder(
+                new TimedPasswordEncoder(delegating, meterRegistry), threads, hashQueue, retryAfterSeconds);
+
+        Gauge.builder("password.hash.queue", encoder, OffloadedPasswordEncoder::queueDepth)
+                .register(meterRegistry);
+        Gauge.builder("password.bcrypt.cost", bcrypt, AdaptiveBCryptPasswordEncoder::getStrength)
+                .register(meterRegistry);
+        return encoder;
     }
 
     @Bean
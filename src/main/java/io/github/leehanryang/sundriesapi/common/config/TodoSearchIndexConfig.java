@@ -0,0 +1,65 @@
+package io.github.leehanryang.sundriesapi.common.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * todos_tbl 의 title/description 에 대한 SQLite FTS5 전문 검색 인덱스 구성
+ * <p>
+ * - external content 테이블(todos_fts)로 본문을 중복 저장하지 않습니다.
+ * - INSERT/UPDATE/DELETE 트리거로 인덱스를 동기화합니다.
+ * - 기동 시 rebuild 로 기존 행(또는 VACUUM 으로 rowid 가 바뀐 행)을 재색인합니다.
+ * <p>
+ * Hibernate DDL(create-drop) 이후에 실행되어야 하므로 EntityManagerFactory 를 주입받습니다.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class TodoSearchIndexConfig {
+
+    private static final String[] DDL = {
+            """
+            CREATE VIRTUAL TABLE IF NOT EXISTS todos_fts USING fts5(
+                title, description,
+                content='todos_tbl', content_rowid='rowid',
+                tokenize='unicode61'
+            )
+            """,
+            """
+            CREATE TRIGGER IF NOT EXISTS todos_fts_ai AFTER INSERT ON todos_tbl BEGIN
+                INSERT INTO todos_fts(rowid, title, description)
+                VALUES (new.rowid, new.title, new.description);
+            END
+            """,
+            """
+            CREATE TRIGGER IF NOT EXISTS todos_fts_ad AFTER DELETE ON todos_tbl BEGIN
+                INSERT INTO todos_fts(todos_fts, rowid, title, description)
+                VALUES ('delete', old.rowid, old.title, old.description);
+            END
+            """,
+            """
+            CREATE TRIGGER IF NOT EXISTS todos_fts_au AFTER UPDATE OF title, description ON todos_tbl BEGIN
+                INSERT INTO todos_fts(todos_fts, rowid, title, description)
+                VALUES ('delete', old.rowid, old.title, old.description);
+                INSERT INTO todos_fts(rowid, title, description)
+                VALUES (new.rowid, new.title, new.description);
+            END
+            """,
+            "INSERT INTO todos_fts(todos_fts) VALUES ('rebuild')"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManagerFactory entityManagerFactory; // 스키마 생성 완료 보장용
+
+    @PostConstruct
+    void createSearchIndex() {
+        for (String sql : DDL) {
+            jdbcTemplate.execute(sql);
+        }
+        log.info("FTS5 search index (todos_fts) ready");
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.leehanryang.sundriesapi.common.config;
+
+import io.github.leehanryang.sundriesapi.common.datasource.ConcurrencyLimitedDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 요청 처리 모드 (opt-in)
+ * <p>
+ * {@code spring.threads.virtual.enabled=true} 이면 Spring Boot 가 Tomcat 요청 처리를 가상 스레드로 전환합니다.
+ * 이때 수천 개의 요청이 동시에 SQLite 로 몰리지 않도록 DataSource 앞에 동시 접근 게이트를 둡니다.
+ * <p>
+ * - todo.datasource.max-concurrency : 동시 커넥션 수 (기본 4, SQLite 단일 writer 기준 소수 유지)
+ * - todo.datasource.acquire-timeout-ms : 게이트 대기 한도 (기본 5000ms)
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            @Value("${todo.datasource.max-concurrency:4}") int maxConcurrency,
+            @Value("${todo.datasource.acquire-timeout-ms:5000}") long acquireTimeoutMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // 내부 writer/reader 풀이 아닌 최상위 DataSource 만 감싼다
+                if ("dataSource".equals(beanName) && bean instanceof DataSource dataSource
+                        && !(bean instanceof ConcurrencyLimitedDataSource)) {
+                    log.info("Virtual threads enabled – limiting DataSource '{}' to {} concurrent connections",
+                            beanName, maxConcurrency);
+                    return new ConcurrencyLimitedDataSource(
+                            dataSource, maxConcurrency, Duration.ofMillis(acquireTimeoutMs));
+                }
+                return bean;
+            }
+        };
+    }
+}
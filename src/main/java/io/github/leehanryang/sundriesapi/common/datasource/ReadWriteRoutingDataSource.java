@@ -0,0 +1,24 @@
+package io.github.leehanryang.sundriesapi.common.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션의 readOnly 여부에 따라 읽기 전용 풀 / 단일 writer 커넥션으로 라우팅
+ * <p>
+ * 트랜잭션 시작 시점에는 readOnly 플래그가 아직 바인딩되지 않으므로
+ * 반드시 {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} 로 감싸서 사용합니다.
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        READ, WRITE
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                ? Route.READ
+                : Route.WRITE;
+    }
+}
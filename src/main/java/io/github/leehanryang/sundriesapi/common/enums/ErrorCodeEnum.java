@@ -12,6 +12,14 @@ public enum ErrorCodeEnum {
     /* ───────── COMMON : 400 Bad Request ───────── */
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "입력 값이 올바르지 않습니다."),
     VALIDATION_FAILED(HttpStatus.BAD_REQUEST, "요청 형식이 잘못되었습니다."),
+    /**
+     * 커서 토큰 위·변조 또는 형식 오류
+     */
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    /**
+     * 동기화 토큰 위·변조 또는 형식 오류
+     */
+    INVALID_SYNC_TOKEN(HttpStatus.BAD_REQUEST, "유효하지 않은 동기화 토큰입니다."),
     METHOD_NOT_ALLOWED(HttpStatus.METHOD_NOT_ALLOWED, "지원하지 않는 HTTP 메서드입니다."),
 
     /* ───────── AUTH : 4xx ───────── */
@@ -44,6 +52,10 @@ public enum ErrorCodeEnum {
      * 토큰 만료
      */
     TOKEN_EXPIRED(HttpStatus.UNAUTHORIZED, "로그인 세션이 만료되었습니다. 다시 로그인해 주세요."),
+    /**
+     * 리프레시 토큰이 없거나 이미 사용·폐기됨
+     */
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않은 리프레시 토큰입니다. 다시 로그인해 주세요."),
     /**
      * 권한 부족
      */
@@ -70,6 +82,16 @@ public enum ErrorCodeEnum {
      * GET /todos/{id}, /todos/search : 개별 상세
      */
     TODO_DETAIL_NOT_FOUND(HttpStatus.NOT_FOUND, "데이터를 찾을 수 없습니다."),
+    /**
+     * GET /todos/changes : 삭제 기록 보존 기간보다 오래된 동기화 토큰
+     */
+    SYNC_TOKEN_EXPIRED(HttpStatus.GONE, "동기화 기준 시점이 만료되었습니다. 전체 목록을 다시 받아 주세요."),
+
+    /* ───────── AVAILABILITY : 503 ───────── */
+    /**
+     * 비밀번호 해시 대기열 포화 등 일시적 처리 용량 초과
+     */
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요."),
 
     /* ───────── INTERNAL : 500 ───────── */
     INTERNAL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다. 잠시 후 다시 시도해 주세요.");
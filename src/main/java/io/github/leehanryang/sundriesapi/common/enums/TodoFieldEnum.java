@@ -0,0 +1,59 @@
+package io.github.leehanryang.sundriesapi.common.enums;
+
+import io.github.leehanryang.sundriesapi.common.exception.ApiException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Todo 응답에서 선택 가능한 필드 (fields= 파라미터)
+ * <p>
+ * JSON 속성명 · 엔티티 속성명 · 컬럼명 · 조회 타입을 함께 보관해 필요한 컬럼만 조회하는 데 사용합니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TodoFieldEnum {
+    ID("id", "id", UUID.class),
+    TITLE("title", "title", String.class),
+    DESCRIPTION("description", "description", String.class),
+    COMPLETED("completed", "completed", Boolean.class),
+    CREATED_AT("createdAt", "created_at", LocalDateTime.class),
+    UPDATED_AT("updatedAt", "updated_at", LocalDateTime.class);
+
+    private final String property;
+    private final String column;
+    private final Class<?> javaType;
+
+    /**
+     * "id,title,completed" 형식 파싱 – 선언 순서로 정렬된 집합 반환
+     *
+     * @throws ApiException 알 수 없는 필드가 있거나 비어 있는 경우 (400)
+     */
+    public static Set<TodoFieldEnum> parse(String fields) {
+        EnumSet<TodoFieldEnum> selected = EnumSet.noneOf(TodoFieldEnum.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(fromProperty(trimmed));
+        }
+        if (selected.isEmpty()) {
+            throw new ApiException(ErrorCodeEnum.INVALID_INPUT_VALUE);
+        }
+        return selected;
+    }
+
+    private static TodoFieldEnum fromProperty(String property) {
+        for (TodoFieldEnum field : values()) {
+            if (field.property.equals(property)) {
+                return field;
+            }
+        }
+        throw new ApiException(ErrorCodeEnum.INVALID_INPUT_VALUE);
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.leehanryang.sundriesapi.common.enums;
+
+import io.github.leehanryang.sundriesapi.common.exception.ApiException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Todo 내보내기·가져오기 파일 형식 (format= 파라미터)
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TodoFileFormatEnum {
+    NDJSON("ndjson", "application/x-ndjson"),
+    CSV("csv", "text/csv");
+
+    private final String extension;
+    private final String contentType;
+
+    /**
+     * @throws ApiException 지원하지 않는 형식인 경우 (400)
+     */
+    public static TodoFileFormatEnum parse(String format) {
+        for (TodoFileFormatEnum value : values()) {
+            if (value.extension.equalsIgnoreCase(format.trim())) {
+                return value;
+            }
+        }
+        throw new ApiException(ErrorCodeEnum.INVALID_INPUT_VALUE);
+    }
+}
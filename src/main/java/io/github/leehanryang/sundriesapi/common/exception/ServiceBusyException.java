@@ -0,0 +1,18 @@
+package io.github.leehanryang.sundriesapi.common.exception;
+
+import io.github.leehanryang.sundriesapi.common.enums.ErrorCodeEnum;
+import lombok.Getter;
+
+/**
+ * 처리 용량 초과 – 503 과 함께 Retry-After 헤더로 재시도 시점을 안내합니다.
+ */
+@Getter
+public class ServiceBusyException extends ApiException {
+
+    private final long retryAfterSeconds;
+
+    public ServiceBusyException(long retryAfterSeconds) {
+        super(ErrorCodeEnum.SERVER_BUSY);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -0,0 +1,22 @@
+package io.github.leehanryang.sundriesapi.common.jpa;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * 시간 순 정렬되는 UUIDv7 (RFC 9562) 식별자 생성
+ * <p>
+ * 상위 48비트가 생성 시각(ms)이므로 BINARY(16) PK 인덱스에 항상 오른쪽 끝으로 삽입되어
+ * UUIDv4 대비 페이지 분할이 적고 캐시 지역성이 좋습니다.
+ */
+@IdGeneratorType(UuidV7Generator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface UuidV7 {
+}
@@ -0,0 +1,52 @@
+package io.github.leehanryang.sundriesapi.common.jpa;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * UUIDv7 생성기
+ * <p>
+ * 레이아웃: unix_ts_ms(48) | ver=7(4) | seq(12) | var=10(2) | rand(62)
+ * <p>
+ * 같은 ms 안에서는 12비트 seq 를 증가시켜 단조 증가를 보장하고, seq 가 넘치면 다음 ms 로 넘어갑니다.
+ */
+public class UuidV7Generator implements IdentifierGenerator {
+
+    private static final Object LOCK = new Object();
+    private static long lastMillis = -1L;
+    private static int sequence;
+
+    public UuidV7Generator(UuidV7 config, Member member, CustomIdGeneratorCreationContext context) {
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object object) {
+        return next();
+    }
+
+    public static UUID next() {
+        long millis;
+        int seq;
+        synchronized (LOCK) {
+            long now = System.currentTimeMillis();
+            if (now > lastMillis) {
+                lastMillis = now;
+                sequence = ThreadLocalRandom.current().nextInt(1 << 11); // 여유 공간 확보를 위해 하위 절반에서 시작
+            } else if (++sequence > 0xFFF) {
+                lastMillis++;   // seq 소진 또는 시계 역행 – 논리 시각을 앞으로
+                sequence = 0;
+            }
+            millis = lastMillis;
+            seq = sequence;
+        }
+
+        long msb = (millis << 16) | 0x7000L | seq;
+        long lsb = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(msb, lsb);
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.leehanryang.sundriesapi.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 실측 해시 시간에 맞춰 cost 를 조정하는 BCrypt 인코더
+ * <p>
+ * - 기동 시 목표 시간(targetMillis)을 넘지 않는 가장 높은 cost 를 찾습니다.
+ * - 이후 encode/matches 소요 시간을 현재 cost 기준으로 환산해 이동 평균을 내고, 목표의 절반 이하이면 cost 를 1 올립니다.
+ * - 실행 중에는 cost 를 낮추지 않습니다. 부하 중 측정값은 대기 시간이 섞여 있어,
+ *   이를 근거로 낮추면 로그인 폭주만으로 새 해시가 약해지기 때문입니다.
+ * - 저장된 해시의 cost 가 현재 값보다 낮을 때만 upgradeEncoding 이 true 를 반환해 로그인 시 재해시됩니다.
+ */
+@Slf4j
+public class AdaptiveBCryptPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT = Pattern.compile("\\A\\$2[aby]?\\$(\\d\\d)\\$[./0-9A-Za-z]{53}");
+    private static final double SMOOTHING = 0.2;
+
+    private final long targetMillis;
+    private final int minStrength;
+    private final int maxStrength;
+
+    private volatile BCryptPasswordEncoder current;
+    private volatile int strength;
+    private double averageMillis;   // 현재 cost 기준 환산 평균 (this 로 동기화)
+
+    public AdaptiveBCryptPasswordEncoder(long targetMillis, int minStrength, int maxStrength) {
+        this.targetMillis = targetMillis;
+        this.minStrength = minStrength;
+        this.maxStrength = maxStrength;
+        calibrate();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        BCryptPasswordEncoder encoder = current;
+        int used = strength;
+        long start = System.nanoTime();
+        String encoded = encoder.encode(rawPassword);
+        record(System.nanoTime() - start, used);
+        return encoded;
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        int used = strengthOf(encodedPassword);
+        long start = System.nanoTime();
+        boolean matched = current.matches(rawPassword, encodedPassword);
+        if (used > 0) {
+            record(System.nanoTime() - start, used);
+        }
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        int used = strengthOf(encodedPassword);
+        return used > 0 && used < strength;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    /* cost 를 1씩 올리며 목표 시간 안에 드는 최댓값 선택 (cost +1 = 시간 2배) */
+    private void calibrate() {
+        int s = minStrength;
+        long elapsed = measure(s);
+        while (s < maxStrength && elapsed * 2 <= targetMillis) {
+            s++;
+            elapsed *= 2;
+        }
+        apply(s, elapsed);
+        log.info("BCrypt cost {} 선택 (예상 {}ms, 목표 {}ms)", s, elapsed, targetMillis);
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        encoder.encode("calibration");   // 워밍업
+        long start = System.nanoTime();
+        encoder.encode("calibration");
+        return Math.max(1, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private synchronized void record(long elapsedNanos, int usedStrength) {
+        double millis = elapsedNanos / 1_000_000.0 * Math.pow(2, strength - usedStrength);
+        averageMillis = averageMillis + SMOOTHING * (millis - averageMillis);
+
+        if (averageMillis * 2 <= targetMillis && strength < maxStrength) {
+            apply(strength + 1, averageMillis * 2);
+            log.info("BCrypt cost 상향 → {} (평균 {}ms)", strength, Math.round(averageMillis));
+        }
+    }
+
+    private synchronized void apply(int newStrength, double expectedMillis) {
+        this.current = new BCryptPasswordEncoder(newStrength);
+        this.strength = newStrength;
+        this.averageMillis = expectedMillis;
+    }
+
+    private static int strengthOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return -1;
+        }
+        Matcher m = BCRYPT.matcher(encodedPassword);
+        return m.find() ? Integer.parseInt(m.group(1)) : -1;
+    }
+}
@@ -0,0 +1,62 @@
+package io.github.leehanryang.sundriesapi.common.security.jwt;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 토큰 ID(jti) 용 Bloom 필터
+ * <p>
+ * - mightContain 이 false 면 확실히 폐기되지 않은 토큰 → DB 조회 없이 통과
+ * - true 면 오탐 가능성(fpp)이 있으므로 호출 측에서 저장소로 확인합니다.
+ * - 삭제를 지원하지 않으므로 만료 정리 후에는 새 인스턴스로 재구성합니다.
+ */
+public final class JtiBloomFilter {
+
+    private final AtomicLongArray words;
+    private final long numBits;
+    private final int numHashes;
+
+    public JtiBloomFilter(long expectedInsertions, double fpp) {
+        long n = Math.max(1, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        int wordCount = (int) Math.min(Integer.MAX_VALUE - 8, Math.max(1, (m + 63) / 64));
+        this.words = new AtomicLongArray(wordCount);
+        this.numBits = (long) wordCount * 64;
+        this.numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+    }
+
+    public void put(UUID jti) {
+        long h1 = mix(jti.getMostSignificantBits());
+        long h2 = mix(jti.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+            int index = (int) (bit >>> 6);
+            long mask = 1L << bit;
+            long word;
+            while (((word = words.get(index)) & mask) == 0) {
+                if (words.compareAndSet(index, word, word | mask)) {
+                    break;
+                }
+            }
+        }
+    }
+
+    public boolean mightContain(UUID jti) {
+        long h1 = mix(jti.getMostSignificantBits());
+        long h2 = mix(jti.getLeastSignificantBits()) | 1;
+        for (int i = 0; i < numHashes; i++) {
+            long bit = ((h1 + i * h2) & Long.MAX_VALUE) % numBits;
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /* splitmix64 finalizer – UUIDv7 상위 비트(시각)의 편향 제거 */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+}
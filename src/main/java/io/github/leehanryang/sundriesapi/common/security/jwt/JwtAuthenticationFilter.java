@@ -1,12 +1,14 @@
 package io.github.leehanryang.sundriesapi.common.security.jwt;
 
 
+import io.github.leehanryang.sundriesapi.domain.service.TokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
@@ -24,6 +26,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     );
 
     private final JwtUtil jwtUtil;    // 주입 필요
+    private final TokenRevocationService revocationService;
 
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
@@ -40,9 +43,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         if (header != null && header.startsWith("Bearer ")) {
             String token = header.substring(7);  // "Bearer " 제거
-            if (jwtUtil.validate(token)) {
-                SecurityContextHolder.getContext()
-                        .setAuthentication(jwtUtil.toAuthentication(token));
+            JwtUtil.VerifiedToken verified = jwtUtil.verify(token);  // 검증 + 변환 1회 파싱
+            // 폐기 확인은 Bloom 필터 우선 – 폐기되지 않은 대부분의 요청은 DB 조회 없음
+            if (verified != null && !revocationService.isRevoked(verified.jti())) {
+                Authentication authentication = jwtUtil.toAuthentication(verified.principal(), token);
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         }
         chain.doFilter(request, response);
@@ -1,10 +1,18 @@
 package io.github.leehanryang.sundriesapi.common.security.jwt;
 
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.leehanryang.sundriesapi.common.jpa.UuidV7Generator;
 import io.github.leehanryang.sundriesapi.common.security.principal.CustomUserPrincipal;
+import io.github.leehanryang.sundriesapi.common.security.principal.RoleAuthorities;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -13,25 +21,51 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Base64;
 import java.util.Date;
-import java.util.Set;
 import java.util.UUID;
 
 @Component
 public class JwtUtil {
+    private final Timer generateTimer;
+    private final Timer parseTimer;
+
     @Value("${todo.jwt.secret}")
     private String secret;
 
-    @Value("${todo.jwt.expire-seconds:3600}") // 기본 1h
+    @Value("${todo.jwt.expire-seconds:900}") // 기본 15m – 갱신은 리프레시 토큰으로
     private long expireSeconds;
 
+    @Value("${todo.jwt.cache-size:10000}") // 검증 완료 토큰 캐시 최대 건수
+    private long cacheSize;
+
     private SecretKey key;
 
+    /* 스레드 안전 – 요청마다 새로 만들지 않고 재사용 */
+    private JwtParser parser;
+
+    /* SHA-256(token) → 검증된 Principal, 토큰의 exp 시각에 만료 */
+    private Cache<String, VerifiedToken> verifiedTokens;
+
+    public JwtUtil(MeterRegistry meterRegistry) {
+        this.generateTimer = timer(meterRegistry, "jwt.generate");
+        this.parseTimer = timer(meterRegistry, "jwt.parse");
+    }
+
     @PostConstruct
     void init() {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     /* ───────── 생성 ───────── */
@@ -40,12 +74,16 @@ public class JwtUtil {
                                 String username,
                                 String email,
                                 String role) {
+        return generateTimer.record(() -> buildToken(id, username, email, role));
+    }
 
+    private String buildToken(UUID id, String username, String email, String role) {
         Instant now = Instant.now();
         Instant exp = now.plus(Duration.ofSeconds(expireSeconds));
 
         return Jwts.builder()
                 .signWith(key)
+                .id(UuidV7Generator.next().toString())   // jti – 폐기 대상 식별
                 .subject(id.toString())
                 .claim("username", username)
                 .claim("email", email)
@@ -58,11 +96,14 @@ public class JwtUtil {
     /* ───────── 파싱 & 검증 ───────── */
 
     private Claims parse(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Timer.Sample sample = Timer.start();
+        try {
+            return parser
+                    .parseSignedClaims(token)
+                    .getPayload();
+        } finally {
+            sample.stop(parseTimer);
+        }
     }
 
     public boolean validate(String token) {
@@ -77,20 +118,102 @@ public class JwtUtil {
     /* ───────── Security Authentication 변환 ───────── */
 
     public Authentication toAuthentication(String token) {
+        return toAuthentication(toPrincipal(parse(token)), token);
+    }
+
+    /**
+     * 토큰 1회 파싱으로 검증과 Authentication 변환을 함께 수행합니다.
+     * <p>
+     * 한 번 검증된 토큰은 exp 시각까지 캐시되어 이후 요청에서는 서명 검증·JSON 파싱을 생략합니다.
+     *
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public Authentication authenticate(String token) {
+        VerifiedToken verified = verify(token);
+        return verified != null ? toAuthentication(verified.principal(), token) : null;
+    }
 
-        Claims c = parse(token);
+    /**
+     * 서명·만료 검증 결과 (캐시 적용)
+     *
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public VerifiedToken verify(String token) {
+        String cacheKey = hash(token);
+        VerifiedToken cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = parse(token);   // 만료·서명 오류 시 예외
+        } catch (Exception e) {
+            return null;
+        }
+        VerifiedToken verified = new VerifiedToken(
+                toPrincipal(claims),
+                claims.getId() != null ? UUID.fromString(claims.getId()) : null,
+                claims.getExpiration().toInstant());
+        verifiedTokens.put(cacheKey, verified);
+        return verified;
+    }
 
-        CustomUserPrincipal principal = new CustomUserPrincipal(
+    private CustomUserPrincipal toPrincipal(Claims c) {
+        return new CustomUserPrincipal(
                 UUID.fromString(c.getSubject()),
                 c.get("username", String.class),
                 null,
-                Set.of(c.get("role", String.class))
+                RoleAuthorities.roles(c.get("role", String.class))
         );
+    }
 
+    public Authentication toAuthentication(CustomUserPrincipal principal, String token) {
         return new UsernamePasswordAuthenticationToken(
                 principal,
                 token,
                 principal.getAuthorities()
         );
     }
+
+    private static Timer timer(MeterRegistry registry, String name) {
+        return Timer.builder(name)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    /* 원본 토큰을 메모리에 보관하지 않도록 해시를 캐시 키로 사용 */
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param jti 폐기 확인용 토큰 ID (jti 도입 이전 토큰은 null)
+     */
+    public record VerifiedToken(CustomUserPrincipal principal, UUID jti, Instant expiresAt) {
+    }
+
+    /* 항목별 만료 – 토큰의 exp 까지만 보관 */
+    private static class TokenExpiry implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), value.expiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
@@ -0,0 +1,24 @@
+package io.github.leehanryang.sundriesapi.common.security.oauth2;
+
+import io.github.leehanryang.sundriesapi.common.security.principal.RoleAuthorities;
+import io.github.leehanryang.sundriesapi.domain.dto.UserDTO;
+import lombok.Getter;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+
+import java.util.Map;
+
+/**
+ * loadUser 단계에서 조회·생성한 사용자 정보를 함께 담는 OAuth2User
+ * <p>
+ * 성공 핸들러가 같은 사용자를 다시 조회하지 않고 그대로 토큰을 발급하는 데 사용합니다.
+ */
+@Getter
+public class CustomOAuth2User extends DefaultOAuth2User {
+
+    private final transient UserDTO user;
+
+    public CustomOAuth2User(UserDTO user, Map<String, Object> attributes, String nameAttributeKey) {
+        super(RoleAuthorities.authorities(user.getRoles()), attributes, nameAttributeKey);
+        this.user = user;
+    }
+}
@@ -3,20 +3,18 @@ package io.github.leehanryang.sundriesapi.common.security.oauth2;
 import io.github.leehanryang.sundriesapi.common.security.jwt.JwtUtil;
 import io.github.leehanryang.sundriesapi.domain.dto.UserDTO;
 import io.github.leehanryang.sundriesapi.domain.service.CustomOAuth2UserService;
+import io.github.leehanryang.sundriesapi.domain.service.RefreshTokenService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
 import org.springframework.web.util.UriComponentsBuilder;
 
 import java.io.IOException;
-import java.util.Map;
-import java.util.UUID;
 
 @Component
 @RequiredArgsConstructor
@@ -24,8 +22,7 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
 
     private final JwtUtil jwtUtil;
     private final CustomOAuth2UserService customOAuth2UserService;
-    private final OAuth2Util oAuth2Util;
-    private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenService refreshTokenService;
 
     @Value("${app.frontend.url}")
     private String frontendUrl;
@@ -36,24 +33,14 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
                                         HttpServletResponse response,
                                         Authentication authentication) throws IOException {
 
-        OAuth2User oauth2User = (OAuth2User) authentication.getPrincipal();
-
         // OAuth2 provider 정보 가져오기
         String provider = request.getRequestURI().split("/")[4]; // /login/oauth2/code/{provider}
-        Map<String, Object> attr = oauth2User.getAttributes();
-
-        String providerId = oAuth2Util.extractProviderId(provider, attr);
-        String email = oAuth2Util.extractEmail(provider, attr);
-        String username = oAuth2Util.extractUserName(provider);
 
-        // OAuth2 제공자로부터 받은 정보로 사용자 조회 또는 생성
-        UserDTO user = customOAuth2UserService.processOAuth2User(
-                username,
-                email,
-                passwordEncoder.encode(UUID.randomUUID().toString()),
-                provider,
-                providerId
-        );
+        // loadUser 단계에서 확정된 사용자 재사용 – 다른 UserService(OIDC 등)를 거친 경우에만 조회
+        UserDTO user = authentication.getPrincipal() instanceof CustomOAuth2User customUser
+                ? customUser.getUser()
+                : customOAuth2UserService.resolveUser(
+                        provider, ((OAuth2User) authentication.getPrincipal()).getAttributes());
 
         // JWT 토큰 생성
         String token = jwtUtil.generateToken(
@@ -64,9 +51,11 @@ public class OAuth2AuthenticationSuccessHandler extends SimpleUrlAuthenticationS
         );
 
         // 프론트엔드 리다이렉트 URL에 토큰 추가
+        // 수명이 긴 리프레시 토큰은 fragment 로 전달 – 서버·프록시 로그와 Referer 헤더에 남지 않음
         String targetUrl = UriComponentsBuilder.fromHttpUrl(frontendUrl)
                 .path("/login/oauth2/code/{provider}")
                 .queryParam("token", token)
+                .fragment("refresh_token=" + refreshTokenService.issue(user.getId()))
                 .buildAndExpand(provider)
                 .toUriString();
 
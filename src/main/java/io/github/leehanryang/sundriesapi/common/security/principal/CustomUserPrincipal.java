@@ -2,33 +2,39 @@ package io.github.leehanryang.sundriesapi.common.security.principal;
 
 import io.github.leehanryang.sundriesapi.domain.entity.User;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 
+/**
+ * 인증 주체 – 권한 목록은 생성 시 RoleAuthorities 에서 한 번만 가져와 보관합니다.
+ */
 public record CustomUserPrincipal(UUID id,
                                   String username,
                                   String password,
-                                  Set<String> roles) implements UserDetails {
+                                  Set<String> roles,
+                                  List<GrantedAuthority> authorities) implements UserDetails {
+
+    public CustomUserPrincipal(UUID id, String username, String password, Set<String> roles) {
+        this(id, username, password, roles, RoleAuthorities.authorities(roles));
+    }
 
     public static CustomUserPrincipal from(User user) {
         return new CustomUserPrincipal(
                 user.getId(),
                 user.getUsername(),
                 user.getPassword(),
-                user.getRoles()
+                RoleAuthorities.roles(user.getRoles())
         );
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return roles.stream()
-                .map(SimpleGrantedAuthority::new)
-                .toList();
+        return authorities;
     }
 
 
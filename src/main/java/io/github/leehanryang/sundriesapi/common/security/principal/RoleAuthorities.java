@@ -0,0 +1,89 @@
+package io.github.leehanryang.sundriesapi.common.security.principal;
+
+import io.github.leehanryang.sundriesapi.common.enums.RoleEnum;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * RoleEnum 별 GrantedAuthority 를 한 번만 만들어 공유하는 불변 레지스트리
+ * <p>
+ * 역할 조합(Set)도 인턴되어, 인가 경로에서는 워밍업 이후 새 객체를 만들지 않습니다.
+ * RoleEnum 에 없는 역할 문자열은 캐시하지 않고 그때그때 생성합니다.
+ */
+public final class RoleAuthorities {
+
+    private static final Map<RoleEnum, GrantedAuthority> BY_ROLE = new EnumMap<>(RoleEnum.class);
+    private static final Map<String, RoleEnum> BY_NAME = new HashMap<>();
+
+    /* 알려진 역할 조합 → (인턴된 역할 Set, 권한 목록) – 조합 수는 최대 2^|RoleEnum| */
+    private static final ConcurrentMap<Set<String>, Grants> GRANTS = new ConcurrentHashMap<>();
+
+    static {
+        for (RoleEnum role : RoleEnum.values()) {
+            BY_ROLE.put(role, new SimpleGrantedAuthority(role.getRole()));
+            BY_NAME.put(role.getRole(), role);
+        }
+    }
+
+    private RoleAuthorities() {
+    }
+
+    public static GrantedAuthority of(RoleEnum role) {
+        return BY_ROLE.get(role);
+    }
+
+    /**
+     * @return 인턴된 불변 역할 Set (단일 역할 – JWT role 클레임용)
+     */
+    public static Set<String> roles(String role) {
+        return grants(Set.of(role)).roles();
+    }
+
+    /**
+     * @return 인턴된 불변 역할 Set (JPA 컬렉션 등 가변 Set 의 스냅샷)
+     */
+    public static Set<String> roles(Collection<String> roles) {
+        return grants(Set.copyOf(roles)).roles();
+    }
+
+    /**
+     * @return 역할 Set 에 대응하는 불변 권한 목록
+     */
+    public static List<GrantedAuthority> authorities(Set<String> roles) {
+        Grants cached = GRANTS.get(roles);
+        return cached != null ? cached.authorities() : grants(Set.copyOf(roles)).authorities();
+    }
+
+    private static Grants grants(Set<String> roles) {
+        Grants cached = GRANTS.get(roles);
+        if (cached != null) {
+            return cached;
+        }
+        Grants created = new Grants(roles, toAuthorities(roles));
+        return BY_NAME.keySet().containsAll(roles)
+                ? GRANTS.computeIfAbsent(roles, k -> created)
+                : created;
+    }
+
+    private static List<GrantedAuthority> toAuthorities(Set<String> roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (String role : roles) {
+            RoleEnum known = BY_NAME.get(role);
+            authorities.add(known != null ? BY_ROLE.get(known) : new SimpleGrantedAuthority(role));
+        }
+        return List.copyOf(authorities);
+    }
+
+    private record Grants(Set<String> roles, List<GrantedAuthority> authorities) {
+    }
+}
@@ -1,8 +1,19 @@
 package io.github.leehanryang.sundriesapi.domain.controller;
 
+import io.github.leehanryang.sundriesapi.common.enums.TodoFieldEnum;
+import io.github.leehanryang.sundriesapi.common.enums.TodoFileFormatEnum;
 import io.github.leehanryang.sundriesapi.common.security.principal.CustomUserPrincipal;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoBatchDTO;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoChangesDTO;
 import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoImportDTO;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoPageDTO;
+import io.github.leehanryang.sundriesapi.domain.service.TodoChangeTracker;
+import io.github.leehanryang.sundriesapi.domain.service.TodoExportService;
+import io.github.leehanryang.sundriesapi.domain.service.TodoImportService;
 import io.github.leehanryang.sundriesapi.domain.service.TodoService;
+import io.github.leehanryang.sundriesapi.domain.service.TodoStreamService;
+import io.github.leehanryang.sundriesapi.domain.service.TodoSyncService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -13,13 +24,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 import java.util.UUID;
 
@@ -31,6 +54,10 @@ import java.util.UUID;
 public class TodoController {
 
     private final TodoService todoService;
+    private final TodoSyncService todoSyncService;
+    private final TodoStreamService todoStreamService;
+    private final TodoExportService todoExportService;
+    private final TodoImportService todoImportService;
 
     @Operation(summary = "Todo 생성", description = "Todo를 생성합니다.")
     @ApiResponses({
@@ -54,33 +81,170 @@ public class TodoController {
         return ResponseEntity.created(URI.create("/todos/" + saved.getId())).build();
     }
 
-    @Operation(summary = "Todo 목록 조회", description = "사용자의 Todo 목록을 최신순으로 반환합니다.")
+    @Operation(summary = "Todo 일괄 처리",
+            description = "생성(CREATE)·수정(UPDATE)·삭제(DELETE) 작업 목록을 한 트랜잭션으로 처리합니다. 최대 500건.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "처리 성공",
+                    content = @Content(schema = @Schema(implementation = TodoBatchDTO.Result.class))),
+            @ApiResponse(responseCode = "400", description = "입력 값이 올바르지 않습니다.", content = @Content),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰입니다.", content = @Content),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다.", content = @Content),
+            @ApiResponse(responseCode = "404", description = "데이터를 찾을 수 없습니다.", content = @Content)
+    })
+    @PostMapping("/batch")
+    public ResponseEntity<TodoBatchDTO.Result> batch(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserPrincipal principal,
+            @Valid @RequestBody TodoBatchDTO dto
+    ) {
+        return ResponseEntity.ok(todoService.batch(principal.id(), dto.getOperations()));
+    }
+
+    @Operation(summary = "Todo 목록 조회",
+            description = "사용자의 Todo 목록을 최신순으로 반환합니다. If-None-Match / If-Modified-Since 를 지원합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = TodoDTO.class)))),
+            @ApiResponse(responseCode = "304", description = "변경 없음", content = @Content),
             @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰입니다.", content = @Content),
     })
 
     @GetMapping
-    public ResponseEntity<List<TodoDTO>> findAll(
+    public ResponseEntity<?> findAll(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserPrincipal principal,
+            @Parameter(description = "응답 필드 선택 (예: id,title,completed) – 생략 시 전체")
+            @RequestParam(required = false) String fields,
+            @Parameter(hidden = true) WebRequest request) {
+        // 변경이 없으면 조회·직렬화 없이 304
+        TodoChangeTracker.Version version = todoService.currentVersion(principal.id());
+        if (request.checkNotModified(version.etag(), version.lastModified())) {
+            return null;
+        }
+        if (fields != null) {
+            return ResponseEntity.ok(todoService.findAll(principal.id(), TodoFieldEnum.parse(fields)));
+        }
+        // 캐시된 JSON 바이트를 그대로 전송
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(todoService.findAllJson(principal.id()));
+    }
+
+    @Operation(summary = "Todo 페이지 조회",
+            description = "커서 기반으로 Todo 목록을 최신순으로 나누어 반환합니다. 응답의 nextCursor 를 다음 요청에 전달하세요.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = TodoPageDTO.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서입니다.", content = @Content),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰입니다.", content = @Content),
+    })
+    @GetMapping("/page")
+    public ResponseEntity<TodoPageDTO> findPage(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserPrincipal principal,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)") @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(todoService.findPage(principal.id(), cursor, size));
+    }
+
+    @Operation(summary = "Todo 변경분 조회",
+            description = "since 토큰 이후 생성·수정된 Todo 와 삭제된 Todo ID 를 반환합니다. since 생략 시 전체 목록을 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = TodoChangesDTO.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 동기화 토큰입니다.", content = @Content),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰입니다.", content = @Content),
+            @ApiResponse(responseCode = "410", description = "동기화 기준 시점이 만료되었습니다.", content = @Content)
+    })
+    @GetMapping("/changes")
+    public ResponseEntity<TodoChangesDTO> changes(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserPrincipal principal,
+            @Parameter(description = "이전 응답의 nextToken") @RequestParam(required = false) String since) {
+        return ResponseEntity.ok(todoSyncService.changesSince(principal.id(), since));
+    }
+
+    @Operation(summary = "Todo 변경 스트림",
+            description = "Todo 생성·수정·삭제·가져오기 이벤트(created/updated/deleted/imported)를 Server-Sent Events 로 전달합니다. "
+                    + "resync 이벤트를 받으면 /todos/changes 로 누락분을 보정하세요.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공",
+                    content = @Content(mediaType = MediaType.TEXT_EVENT_STREAM_VALUE)),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰입니다.", content = @Content)
+    })
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserPrincipal principal) {
-        return ResponseEntity.ok(todoService.findAll(principal.id()));
+        return todoStreamService.subscribe(principal.id());
+    }
+
+    @Operation(summary = "Todo 내보내기",
+            description = "사용자의 Todo 전체를 NDJSON(기본) 또는 CSV 파일로 스트리밍합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "내보내기 성공",
+                    content = {@Content(mediaType = "application/x-ndjson"), @Content(mediaType = "text/csv")}),
+            @ApiResponse(responseCode = "400", description = "입력 값이 올바르지 않습니다.", content = @Content),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰입니다.", content = @Content),
+            @ApiResponse(responseCode = "503", description = "동시 내보내기 수를 초과했습니다.", content = @Content)
+    })
+    @GetMapping("/export")
+    public void export(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserPrincipal principal,
+            @Parameter(description = "파일 형식 (ndjson, csv)") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(hidden = true) HttpServletResponse response) throws IOException {
+        TodoFileFormatEnum fileFormat = TodoFileFormatEnum.parse(format);
+        response.setContentType(fileFormat.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("todos." + fileFormat.getExtension())
+                .build().toString());
+        todoExportService.export(principal.id(), fileFormat, response.getOutputStream());
+    }
+
+    @Operation(summary = "Todo 가져오기",
+            description = "NDJSON(기본) 또는 CSV 파일의 Todo 를 일괄 등록합니다. "
+                    + "CSV 는 title, description, completed 헤더를 사용합니다. 잘못된 행은 건너뛰고 결과의 errors 에 담습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "가져오기 완료",
+                    content = @Content(schema = @Schema(implementation = TodoImportDTO.class))),
+            @ApiResponse(responseCode = "400", description = "입력 값이 올바르지 않습니다.", content = @Content),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰입니다.", content = @Content),
+            @ApiResponse(responseCode = "404", description = "회원 정보를 찾을 수 없습니다.", content = @Content)
+    })
+    @PostMapping("/import")
+    public ResponseEntity<TodoImportDTO> importTodos(
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserPrincipal principal,
+            @Parameter(description = "파일 형식 (ndjson, csv)") @RequestParam(defaultValue = "ndjson") String format,
+            @Parameter(hidden = true) HttpServletRequest request) throws IOException {
+        TodoFileFormatEnum fileFormat = TodoFileFormatEnum.parse(format);
+        return ResponseEntity.ok(todoImportService.importTodos(principal.id(), fileFormat, request.getInputStream()));
     }
 
-    @Operation(summary = "Todo 상세 조회", description = "Todo ID로 상세 정보를 조회합니다.")
+    @Operation(summary = "Todo 상세 조회",
+            description = "Todo ID로 상세 정보를 조회합니다. If-None-Match / If-Modified-Since 를 지원합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = TodoDTO.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음", content = @Content),
             @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰입니다.", content = @Content),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없습니다.", content = @Content),
             @ApiResponse(responseCode = "404", description = "데이터를 찾을 수 없습니다.", content = @Content)
     })
 
     @GetMapping("/{id}")
-    public ResponseEntity<TodoDTO> findById(
+    public ResponseEntity<byte[]> findById(
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserPrincipal principal,
-            @Parameter(description = "Todo UUID") @PathVariable UUID id
+            @Parameter(description = "Todo UUID") @PathVariable UUID id,
+            @Parameter(hidden = true) WebRequest request
     ) {
-        return ResponseEntity.ok(todoService.findById(principal.id(), id));
+        // 존재·소유권(404/403)을 먼저 확인한 뒤, 해당 행의 수정 시각으로 304 판단
+        LocalDateTime updatedAt = todoService.findUpdatedAt(principal.id(), id);
+        Instant modified = updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+        // 약한 ETag – 목록 ETag 와 형식이 달라 서로 일치하지 않음
+        String etag = "W/\"" + modified.getEpochSecond() + "." + modified.getNano() + "\"";
+        if (request.checkNotModified(etag, modified.toEpochMilli())) {
+            return null;
+        }
+        // 캐시된 JSON 바이트를 그대로 전송
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(todoService.findByIdJson(principal.id(), id, updatedAt));
     }
 
     @Operation(summary = "Todo 수정", description = "Todo ID에 해당하는 항목을 수정합니다.")
@@ -116,16 +280,22 @@ public class TodoController {
         return ResponseEntity.noContent().build();
     }
 
-    @Operation(summary = "Todo 검색", description = "제목으로 Todo 를 검색합니다.")
+    @Operation(summary = "Todo 검색", description = "제목·내용으로 Todo 를 검색합니다. 단어 접두어 일치, 관련도순으로 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "검색 성공",
                     content = @Content(array = @ArraySchema(schema = @Schema(implementation = TodoDTO.class)))),
             @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰입니다.", content = @Content),
     })
     @GetMapping("/search")
-    public ResponseEntity<List<TodoDTO>> search(
+    public ResponseEntity<List<?>> search(
             @Parameter(hidden = true) @AuthenticationPrincipal CustomUserPrincipal principal,
-            @Parameter(description = "검색 키워드") @RequestParam String keyword) {
-        return ResponseEntity.ok(todoService.search(principal.id(), keyword));
+            @Parameter(description = "검색 키워드") @RequestParam String keyword,
+            @Parameter(description = "최대 결과 수 (기본 50, 최대 100)") @RequestParam(required = false) Integer limit,
+            @Parameter(description = "응답 필드 선택 (예: id,title,completed) – 생략 시 전체")
+            @RequestParam(required = false) String fields) {
+        if (fields != null) {
+            return ResponseEntity.ok(todoService.search(principal.id(), keyword, limit, TodoFieldEnum.parse(fields)));
+        }
+        return ResponseEntity.ok(todoService.search(principal.id(), keyword, limit));
     }
 }
\ No newline at end of file
@@ -2,8 +2,10 @@ package io.github.leehanryang.sundriesapi.domain.controller;
 
 import io.github.leehanryang.sundriesapi.common.security.principal.CustomUserPrincipal;
 import io.github.leehanryang.sundriesapi.domain.dto.LoginDTO;
+import io.github.leehanryang.sundriesapi.domain.dto.TokenDTO;
 import io.github.leehanryang.sundriesapi.domain.dto.UserDTO;
 import io.github.leehanryang.sundriesapi.domain.service.LoginService;
+import io.github.leehanryang.sundriesapi.domain.service.RefreshTokenService;
 import io.github.leehanryang.sundriesapi.domain.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +18,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
@@ -28,19 +31,46 @@ public class UserController {
 
     private final UserService userService;
     private final LoginService loginService;
+    private final RefreshTokenService refreshTokenService;
 
     /* ───────── 인증 ───────── */
 
-    @Operation(summary = "로그인", description = "JWT 토큰을 발급합니다.")
+    @Operation(summary = "로그인", description = "JWT 액세스 토큰과 리프레시 토큰을 발급합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "로그인 성공",
-                    content = @Content(schema = @Schema(implementation = LoginDTO.class))),
+                    content = @Content(schema = @Schema(implementation = TokenDTO.class))),
             @ApiResponse(responseCode = "401", description = "이메일 또는 비밀번호가 올바르지 않습니다.", content = @Content)
     })
     @PostMapping("/login")
-    public ResponseEntity<LoginDTO> login(@Valid @RequestBody LoginDTO dto) {
-        String token = loginService.authenticate(dto);
-        return ResponseEntity.ok(new LoginDTO(token));
+    public ResponseEntity<TokenDTO> login(@Valid @RequestBody LoginDTO dto) {
+        return ResponseEntity.ok(loginService.authenticate(dto));
+    }
+
+    @Operation(summary = "토큰 갱신", description = "리프레시 토큰을 회전하고 새 토큰 쌍을 발급합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "갱신 성공",
+                    content = @Content(schema = @Schema(implementation = TokenDTO.class))),
+            @ApiResponse(responseCode = "401", description = "유효하지 않거나 만료된 리프레시 토큰입니다.", content = @Content)
+    })
+    @PostMapping("/token/refresh")
+    public ResponseEntity<TokenDTO> refresh(@RequestBody TokenDTO dto) {
+        return ResponseEntity.ok(refreshTokenService.rotate(dto.getRefresh_token()));
+    }
+
+    @Operation(summary = "로그아웃", description = "현재 액세스 토큰과 리프레시 토큰(선택)을 폐기합니다.")
+    @SecurityRequirement(name = "bearerAuth")
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "로그아웃 성공", content = @Content),
+            @ApiResponse(responseCode = "401", description = "유효하지 않은 토큰입니다.", content = @Content)
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(
+            @Parameter(hidden = true) @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestBody(required = false) TokenDTO dto
+    ) {
+        refreshTokenService.revoke(authorization.substring("Bearer ".length()),
+                dto != null ? dto.getRefresh_token() : null);
+        return ResponseEntity.noContent().build();
     }
 
     /* ───────── 프로필 ───────── */
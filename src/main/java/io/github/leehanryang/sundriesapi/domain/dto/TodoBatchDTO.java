@@ -0,0 +1,61 @@
+package io.github.leehanryang.sundriesapi.domain.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Todo 일괄 처리 요청 – 생성·수정·삭제를 섞어 한 트랜잭션으로 처리
+ */
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBatchDTO {
+
+    /* 한 요청당 최대 작업 수 */
+    public static final int MAX_OPERATIONS = 500;
+
+    public enum Type {
+        CREATE, UPDATE, DELETE
+    }
+
+    @NotEmpty
+    @Size(max = MAX_OPERATIONS)
+    private List<@Valid @NotNull Operation> operations;
+
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Operation {
+        @NotNull
+        private Type type;
+        /* UPDATE·DELETE 대상 (CREATE 는 무시) */
+        private UUID id;
+        @Size(max = 100)
+        private String title;
+        private String description;
+        private boolean completed;
+    }
+
+    /**
+     * 일괄 처리 결과
+     */
+    @Getter
+    @Builder
+    public static class Result {
+        private final List<TodoDTO> created;
+        private final List<TodoDTO> updated;
+        private final List<UUID> deleted;
+    }
+}
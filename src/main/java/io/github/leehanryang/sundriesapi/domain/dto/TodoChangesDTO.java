@@ -0,0 +1,22 @@
+package io.github.leehanryang.sundriesapi.domain.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 델타 동기화 응답 – since 이후 생성·수정된 Todo 와 삭제된 Todo ID
+ * <p>
+ * 경계 구간의 항목은 다음 응답에 다시 포함될 수 있으므로 클라이언트는 ID 기준으로 upsert 합니다.
+ */
+@Getter
+@Builder
+public class TodoChangesDTO {
+
+    private final List<TodoDTO> upserted;
+    private final List<UUID> deleted;
+    /* 다음 동기화 요청의 since 값 */
+    private final String nextToken;
+}
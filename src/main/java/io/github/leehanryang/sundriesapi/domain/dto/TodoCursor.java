@@ -0,0 +1,44 @@
+package io.github.leehanryang.sundriesapi.domain.dto;
+
+import io.github.leehanryang.sundriesapi.common.enums.ErrorCodeEnum;
+import io.github.leehanryang.sundriesapi.common.exception.ApiException;
+import io.github.leehanryang.sundriesapi.domain.entity.Todo;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset 페이지네이션 커서 – 마지막으로 내려준 행의 (created_at, id)
+ * <p>
+ * 클라이언트에는 Base64URL 로 인코딩된 불투명(opaque) 토큰으로만 노출합니다.
+ */
+public record TodoCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static TodoCursor of(Todo todo) {
+        return new TodoCursor(todo.getCreatedAt(), todo.getId());
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            return new TodoCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    UUID.fromString(raw.substring(idx + 1))
+            );
+        } catch (RuntimeException e) {
+            // 디코딩·파싱 실패는 모두 잘못된 입력으로 처리
+            throw new ApiException(ErrorCodeEnum.INVALID_CURSOR);
+        }
+    }
+}
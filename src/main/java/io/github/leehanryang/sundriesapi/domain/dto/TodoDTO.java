@@ -4,6 +4,7 @@ import io.github.leehanryang.sundriesapi.domain.entity.Todo;
 import io.github.leehanryang.sundriesapi.domain.entity.User;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -13,6 +14,7 @@ import java.util.UUID;
 
 @Getter
 @Builder
+@AllArgsConstructor // JPQL 생성자 프로젝션 (select new ...TodoDTO(...))
 public class TodoDTO {
 
     private final UUID id;
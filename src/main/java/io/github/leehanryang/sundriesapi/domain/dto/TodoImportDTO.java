@@ -0,0 +1,29 @@
+package io.github.leehanryang.sundriesapi.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * Todo 가져오기 결과
+ */
+@Getter
+@Builder
+public class TodoImportDTO {
+
+    private final long imported;
+    private final long failed;
+    /* 실패한 행 – 최대 todo.import.max-errors 건까지만 포함 */
+    private final List<RowError> errors;
+    private final boolean errorsTruncated;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        /* 파일 내 1부터 시작하는 행 번호 (CSV 는 헤더 포함 레코드 번호) */
+        private final long row;
+        private final String message;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.leehanryang.sundriesapi.domain.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 커서 기반 Todo 목록 응답
+ */
+@Getter
+@Builder
+public class TodoPageDTO {
+
+    private final List<TodoDTO> items;
+    /* 다음 페이지 요청 시 그대로 전달할 커서 (마지막 페이지면 null) */
+    private final String nextCursor;
+    private final boolean hasNext;
+}
@@ -0,0 +1,28 @@
+package io.github.leehanryang.sundriesapi.domain.dto;
+
+import io.github.leehanryang.sundriesapi.common.enums.ErrorCodeEnum;
+import io.github.leehanryang.sundriesapi.common.exception.ApiException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 델타 동기화 워터마크 – 클라이언트에는 Base64URL 불투명 토큰으로만 노출
+ */
+public record TodoSyncToken(LocalDateTime since) {
+
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(since.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoSyncToken decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            return new TodoSyncToken(LocalDateTime.parse(raw));
+        } catch (RuntimeException e) {
+            throw new ApiException(ErrorCodeEnum.INVALID_SYNC_TOKEN);
+        }
+    }
+}
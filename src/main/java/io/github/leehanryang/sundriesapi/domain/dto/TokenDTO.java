@@ -0,0 +1,18 @@
+package io.github.leehanryang.sundriesapi.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그인·토큰 갱신 응답 (갱신 요청 시에는 refresh_token 만 사용)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenDTO {
+
+    private String access_token;
+
+    private String refresh_token;
+}
@@ -32,7 +32,7 @@ public class UserDTO {
                 .id(entity.getId())
                 .username(entity.getUsername())
                 .email(entity.getEmail())
-                .roles(entity.getRoles())
+                .roles(Set.copyOf(entity.getRoles())) // 캐시에 보관되므로 불변 복사본
                 .createdAt(entity.getCreatedAt())
                 .updatedAt(entity.getUpdatedAt())
                 .build();
@@ -0,0 +1,69 @@
+package io.github.leehanryang.sundriesapi.domain.entity;
+
+import io.github.leehanryang.sundriesapi.common.jpa.UuidV7;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 – 원문은 저장하지 않고 SHA-256 해시만 보관합니다.
+ * <p>
+ * 사용(회전)된 토큰은 만료 시각까지 남겨 두어, 재사용되면 같은 family 전체를 폐기합니다.
+ */
+@Entity
+@Table(name = "refresh_tokens",
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_tokens_hash", columnNames = "token_hash"),
+        indexes = {
+                @Index(name = "idx_refresh_tokens_expires_at", columnList = "expires_at"),
+                @Index(name = "idx_refresh_tokens_family", columnList = "family_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshToken {
+
+    @Id
+    @UuidV7
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    @Column(name = "user_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID userId;
+
+    /* 최초 로그인에서 이어지는 회전 계열 */
+    @Column(name = "family_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID familyId;
+
+    @Column(name = "token_hash", nullable = false, length = 44)
+    private String tokenHash;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "rotated_at")
+    private LocalDateTime rotatedAt;
+
+    public static RefreshToken issue(UUID userId, UUID familyId, String tokenHash, LocalDateTime expiresAt) {
+        RefreshToken token = new RefreshToken();
+        token.userId = userId;
+        token.familyId = familyId;
+        token.tokenHash = tokenHash;
+        token.expiresAt = expiresAt;
+        return token;
+    }
+
+    public boolean isRotated() {
+        return rotatedAt != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public void rotate(LocalDateTime now) {
+        this.rotatedAt = now;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.leehanryang.sundriesapi.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 만료 전에 폐기된 액세스 토큰(jti) – 원래 만료 시각이 지나면 정리됩니다.
+ * <p>
+ * ID(jti)를 직접 지정하므로 Persistable 로 신규 여부를 알려 save() 가 merge(SELECT) 없이 persist 하도록 합니다.
+ */
+@Entity
+@Table(name = "revoked_tokens",
+        indexes = @Index(name = "idx_revoked_tokens_expires_at", columnList = "expires_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedToken implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "jti", columnDefinition = "BINARY(16)")
+    private UUID jti;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public static RevokedToken of(UUID jti, LocalDateTime expiresAt) {
+        RevokedToken token = new RevokedToken();
+        token.jti = jti;
+        token.expiresAt = expiresAt;
+        return token;
+    }
+
+    @Override
+    public UUID getId() {
+        return jti;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
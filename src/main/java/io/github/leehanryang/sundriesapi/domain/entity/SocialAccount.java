@@ -1,9 +1,9 @@
 package io.github.leehanryang.sundriesapi.domain.entity;
 
 import io.github.leehanryang.sundriesapi.common.enums.OAuth2Enum;
+import io.github.leehanryang.sundriesapi.common.jpa.UuidV7;
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.UuidGenerator;
 
 import java.util.UUID;
 
@@ -17,7 +17,7 @@ import java.util.UUID;
 public class SocialAccount {
 
     @Id
-    @UuidGenerator
+    @UuidV7
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
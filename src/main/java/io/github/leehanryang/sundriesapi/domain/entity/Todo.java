@@ -1,11 +1,11 @@
 package io.github.leehanryang.sundriesapi.domain.entity;
 
+import io.github.leehanryang.sundriesapi.common.jpa.UuidV7;
 import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
-import org.hibernate.annotations.UuidGenerator;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -15,7 +15,11 @@ import java.util.UUID;
 
 
 @Entity
-@Table(name = "todos_tbl")
+@Table(name = "todos_tbl",
+        indexes = {
+                @Index(name = "idx_todos_user_created_id", columnList = "user_id, created_at DESC, id"),
+                @Index(name = "idx_todos_user_updated", columnList = "user_id, updated_at")
+        })
 @Getter
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -24,7 +28,7 @@ import java.util.UUID;
 public class Todo {
 
     @Id
-    @UuidGenerator
+    @UuidV7
     @Column(columnDefinition = "BINARY(16)")
     private UUID id;
 
@@ -0,0 +1,64 @@
+package io.github.leehanryang.sundriesapi.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 삭제된 Todo 기록 – 델타 동기화 시 클라이언트에 삭제 사실을 전달
+ * <p>
+ * 보존 기간이 지나면 정리(compaction)되며, 그보다 오래된 동기화 토큰은 전체 재동기화를 요구합니다.
+ * <p>
+ * ID(todo_id)를 직접 지정하므로 Persistable 로 신규 여부를 알려 save() 가 merge(SELECT) 없이 persist 하도록 합니다.
+ */
+@Entity
+@Table(name = "todo_tombstones",
+        indexes = @Index(name = "idx_tombstones_user_deleted", columnList = "user_id, deleted_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TodoTombstone implements Persistable<UUID> {
+
+    @Id
+    @Column(name = "todo_id", columnDefinition = "BINARY(16)")
+    private UUID todoId;
+
+    /* 사용자 삭제 후에도 정리 전까지 남을 수 있으므로 연관관계 없이 ID 만 보관 */
+    @Column(name = "user_id", nullable = false, columnDefinition = "BINARY(16)")
+    private UUID userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean persisted;
+
+    public static TodoTombstone of(UUID userId, UUID todoId, LocalDateTime deletedAt) {
+        TodoTombstone tombstone = new TodoTombstone();
+        tombstone.todoId = todoId;
+        tombstone.userId = userId;
+        tombstone.deletedAt = deletedAt;
+        return tombstone;
+    }
+
+    @Override
+    public UUID getId() {
+        return todoId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
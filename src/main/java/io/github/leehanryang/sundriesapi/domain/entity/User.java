@@ -23,6 +23,11 @@ import java.util.UUID;
 @Builder
 public class User {
 
+    /**
+     * 소셜 전용 계정의 비밀번호 자리 표시 – 어떤 해시 형식과도 일치하지 않아 비밀번호 로그인이 불가능합니다.
+     */
+    public static final String NO_PASSWORD = "!";
+
     @Id
     @GeneratedValue(generator = "UUID")
     private UUID id;
@@ -0,0 +1,38 @@
+package io.github.leehanryang.sundriesapi.domain.event;
+
+import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+
+import java.util.UUID;
+
+/**
+ * Todo 변경 이벤트 – TodoService 쓰기 작업마다 발행
+ * <p>
+ * 리스너는 {@code @TransactionalEventListener(AFTER_COMMIT)} 로 커밋 이후에만 반응합니다.
+ *
+ * @param todoId 가져오기(IMPORTED) 시 null
+ * @param todo   삭제(DELETE)·가져오기(IMPORTED) 시 null
+ */
+public record TodoChangedEvent(UUID userId, Type type, UUID todoId, TodoDTO todo) {
+
+    public enum Type {
+        CREATED, UPDATED, DELETED,
+        /* 가져오기 한 묶음 커밋 – 항목별 이벤트 대신 묶음당 한 번 */
+        IMPORTED
+    }
+
+    public static TodoChangedEvent created(UUID userId, TodoDTO todo) {
+        return new TodoChangedEvent(userId, Type.CREATED, todo.getId(), todo);
+    }
+
+    public static TodoChangedEvent updated(UUID userId, TodoDTO todo) {
+        return new TodoChangedEvent(userId, Type.UPDATED, todo.getId(), todo);
+    }
+
+    public static TodoChangedEvent deleted(UUID userId, UUID todoId) {
+        return new TodoChangedEvent(userId, Type.DELETED, todoId, null);
+    }
+
+    public static TodoChangedEvent imported(UUID userId) {
+        return new TodoChangedEvent(userId, Type.IMPORTED, null, null);
+    }
+}
@@ -0,0 +1,11 @@
+package io.github.leehanryang.sundriesapi.domain.event;
+
+import java.util.UUID;
+
+/**
+ * 회원 정보 변경·삭제 이벤트 – UserService 쓰기 작업마다 발행
+ * <p>
+ * 리스너는 {@code @TransactionalEventListener(AFTER_COMMIT)} 로 커밋 이후에만 반응합니다.
+ */
+public record UserChangedEvent(UUID userId) {
+}
@@ -0,0 +1,31 @@
+package io.github.leehanryang.sundriesapi.domain.repository;
+
+import io.github.leehanryang.sundriesapi.domain.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, UUID> {
+
+    @Query("select r.jti from RevokedToken r where r.expiresAt > :now")
+    List<UUID> findActiveJtis(@Param("now") LocalDateTime now);
+
+    /**
+     * 원래 만료 시각이 지난 기록을 batchSize 건씩 삭제
+     *
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM revoked_tokens
+            WHERE rowid IN (SELECT rowid FROM revoked_tokens WHERE expires_at < :now LIMIT :batchSize)
+            """, nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("batchSize") int batchSize);
+}
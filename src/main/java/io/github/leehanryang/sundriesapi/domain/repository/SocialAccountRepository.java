@@ -2,11 +2,15 @@ package io.github.leehanryang.sundriesapi.domain.repository;
 
 import io.github.leehanryang.sundriesapi.common.enums.OAuth2Enum;
 import io.github.leehanryang.sundriesapi.domain.entity.SocialAccount;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface SocialAccountRepository extends JpaRepository<SocialAccount, UUID> {
+
+    /* 사용자·권한까지 한 번의 조인 쿼리로 로딩 */
+    @EntityGraph(attributePaths = {"user", "user.roles"})
     Optional<SocialAccount> findByProviderAndProviderId(OAuth2Enum provider, String providerId);
 }
@@ -1,14 +1,96 @@
 package io.github.leehanryang.sundriesapi.domain.repository;
 
+import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
 import io.github.leehanryang.sundriesapi.domain.entity.Todo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface TodoRepository extends JpaRepository<Todo, UUID> {
-    List<Todo> findAllByUserIdOrderByCreatedAtDesc(UUID userid);
+public interface TodoRepository extends JpaRepository<Todo, UUID>, TodoRepositoryCustom {
 
-    List<Todo> findByUserIdAndTitleContaining(UUID userid, String keyword);
+    /* ───────── 읽기 전용 DTO 프로젝션 (엔티티·스냅샷 생성 없이 바로 DTO 로 조회) ───────── */
+
+    @Query("""
+            select new io.github.leehanryang.sundriesapi.domain.dto.TodoDTO(
+                t.id, t.title, t.description, t.completed, t.createdAt, t.updatedAt)
+            from Todo t
+            where t.user.id = :userId
+            order by t.createdAt desc
+            """)
+    List<TodoDTO> findDtosByUserId(@Param("userId") UUID userId);
+
+    /* 델타 동기화 (idx_todos_user_updated) */
+    @Query("""
+            select new io.github.leehanryang.sundriesapi.domain.dto.TodoDTO(
+                t.id, t.title, t.description, t.completed, t.createdAt, t.updatedAt)
+            from Todo t
+            where t.user.id = :userId and t.updatedAt > :since
+            """)
+    List<TodoDTO> findDtosByUserIdUpdatedAfter(@Param("userId") UUID userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 내보내기용 전방향 커서 – 500 행씩 읽으며, 호출 측에서 행마다 detach 합니다.
+     * <p>
+     * 트랜잭션 안에서 try-with-resources 로 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select t from Todo t
+            where t.user.id = :userId
+            order by t.createdAt desc, t.id asc
+            """)
+    Stream<Todo> streamAllByUserId(@Param("userId") UUID userId);
+
+    /* ───────── 소유권 조건을 포함한 단건 조회·수정·삭제 (각 1 statement) ───────── */
+
+    Optional<Todo> findByIdAndUserId(UUID id, UUID userId);
+
+    /* 단건 JSON 캐시 키 확인용 – 수정 시각 컬럼만 조회 */
+    @Query("select t.updatedAt from Todo t where t.id = :id and t.user.id = :userId")
+    Optional<LocalDateTime> findUpdatedAtByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    /* 소유자 조건부 수정은 TodoRepositoryCustom#updateByIdAndUserId (UPDATE … RETURNING) */
+
+    /**
+     * @return 삭제된 행 수 (0 이면 없거나 다른 사용자 소유)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("delete from Todo t where t.id = :id and t.user.id = :userId")
+    int deleteByIdAndUserId(@Param("id") UUID id, @Param("userId") UUID userId);
+
+    /* ───────── Keyset 페이지 (idx_todos_user_created_id 순서와 동일) ───────── */
+
+    @Query("""
+            select t from Todo t
+            where t.user.id = :userId
+            order by t.createdAt desc, t.id asc
+            """)
+    List<Todo> findFirstPage(@Param("userId") UUID userId, Pageable pageable);
+
+    @Query("""
+            select t from Todo t
+            where t.user.id = :userId
+              and (t.createdAt < :createdAt
+                   or (t.createdAt = :createdAt and t.id > :id))
+            order by t.createdAt desc, t.id asc
+            """)
+    List<Todo> findPageAfter(@Param("userId") UUID userId,
+                             @Param("createdAt") LocalDateTime createdAt,
+                             @Param("id") UUID id,
+                             Pageable pageable);
 
 }
@@ -0,0 +1,54 @@
+package io.github.leehanryang.sundriesapi.domain.repository;
+
+import io.github.leehanryang.sundriesapi.common.enums.TodoFieldEnum;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+import io.github.leehanryang.sundriesapi.domain.entity.Todo;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 선택한 컬럼만 조회하는 Todo 프로젝션 쿼리 (엔티티·영속성 컨텍스트 미사용)
+ */
+public interface TodoRepositoryCustom {
+
+    /**
+     * FTS5 전문 검색 (title 가중치 10, description 가중치 1 의 bm25 순) – 결과를 바로 DTO 로 조회
+     *
+     * @param match FTS5 MATCH 구문 – {@code "키워드"*} 형태로 이스케이프된 값
+     */
+    List<TodoDTO> searchFullText(UUID userId, String match, int limit);
+
+    /**
+     * 소유자 조건부 수정 후 변경된 행을 그대로 반환 (SQLite 3.35+ RETURNING, 1 statement)
+     * <p>
+     * 결과를 엔티티가 아닌 DTO 로 읽고 이어서 영속성 컨텍스트를 비우므로,
+     * 같은 트랜잭션에서 먼저 읽어 둔 Todo 가 수정 전 값으로 반환·유지되지 않습니다.
+     *
+     * @return 없거나 다른 사용자 소유면 empty
+     */
+    Optional<TodoDTO> updateByIdAndUserId(UUID id, UUID userId, String title, String description,
+                                          boolean completed, LocalDateTime updatedAt);
+
+    /**
+     * 대량 INSERT – persist 후 flush 로 JDBC 배치 전송, 이어서 영속성 컨텍스트를 비움
+     * <p>
+     * 호출 측 트랜잭션 안에서 사용하며, 이후 전달한 엔티티는 준영속 상태가 됩니다.
+     */
+    void persistAllAndClear(List<Todo> todos);
+
+    /**
+     * @return 필드명 → 값 (요청 필드 순서 유지), 최신순
+     */
+    List<Map<String, Object>> findFieldsByUserId(UUID userId, Set<TodoFieldEnum> fields);
+
+    /**
+     * @param match FTS5 MATCH 구문 – {@link #searchFullText} 와 동일
+     * @return 필드명 → 값 (요청 필드 순서 유지), 관련도순
+     */
+    List<Map<String, Object>> searchFieldsFullText(UUID userId, String match, int limit, Set<TodoFieldEnum> fields);
+}
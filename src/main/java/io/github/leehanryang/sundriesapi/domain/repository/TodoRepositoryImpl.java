@@ -0,0 +1,156 @@
+package io.github.leehanryang.sundriesapi.domain.repository;
+
+import io.github.leehanryang.sundriesapi.common.enums.TodoFieldEnum;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+import io.github.leehanryang.sundriesapi.domain.entity.Todo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import org.hibernate.query.NativeQuery;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * TodoRepositoryCustom 구현 – 필드 조합에 따라 SELECT 절을 구성합니다.
+ * <p>
+ * 컬럼명은 TodoFieldEnum 상수에서만 가져오므로 사용자 입력이 SQL 에 그대로 들어가지 않습니다.
+ */
+class TodoRepositoryImpl implements TodoRepositoryCustom {
+
+    private static final Set<TodoFieldEnum> ALL_FIELDS = EnumSet.allOf(TodoFieldEnum.class);
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<TodoDTO> searchFullText(UUID userId, String match, int limit) {
+        return searchRows(userId, match, limit, ALL_FIELDS).stream()
+                .map(TodoRepositoryImpl::toDto)
+                .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<TodoDTO> updateByIdAndUserId(UUID id, UUID userId, String title, String description,
+                                                 boolean completed, LocalDateTime updatedAt) {
+        String returning = ALL_FIELDS.stream()
+                .map(TodoFieldEnum::getColumn)
+                .collect(Collectors.joining(", "));
+        NativeQuery<Object[]> query = em.createNativeQuery("""
+                        UPDATE todos_tbl
+                        SET title = :title, description = :description, completed = :completed, updated_at = :updatedAt
+                        WHERE id = :id AND user_id = :userId
+                        RETURNING %s
+                        """.formatted(returning))
+                .unwrap(NativeQuery.class);
+        for (TodoFieldEnum field : ALL_FIELDS) {
+            query.addScalar(field.getColumn(), field.getJavaType());
+        }
+        List<Object[]> rows = query
+                .setParameter("title", title)
+                .setParameter("description", description)
+                .setParameter("completed", completed)
+                .setParameter("updatedAt", updatedAt)
+                .setParameter("id", id)
+                .setParameter("userId", userId)
+                .getResultList();
+        // @Modifying(clearAutomatically = true) 와 같이 – 먼저 올라와 있던 Todo 가 수정 전 값으로 남지 않도록
+        em.clear();
+        return rows.stream().findFirst().map(TodoRepositoryImpl::toDto);
+    }
+
+    @Override
+    public void persistAllAndClear(List<Todo> todos) {
+        for (Todo todo : todos) {
+            em.persist(todo);
+        }
+        em.flush();
+        em.clear();
+    }
+
+    @Override
+    public List<Map<String, Object>> findFieldsByUserId(UUID userId, Set<TodoFieldEnum> fields) {
+        String select = fields.stream()
+                .map(f -> "t." + f.getProperty())
+                .collect(Collectors.joining(", "));
+        List<Tuple> rows = em.createQuery("""
+                        select %s from Todo t
+                        where t.user.id = :userId
+                        order by t.createdAt desc
+                        """.formatted(select), Tuple.class)
+                .setParameter("userId", userId)
+                .getResultList();
+
+        List<Map<String, Object>> result = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            result.add(toMap(fields, row.toArray()));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Map<String, Object>> searchFieldsFullText(UUID userId, String match, int limit,
+                                                         Set<TodoFieldEnum> fields) {
+        List<Object[]> rows = searchRows(userId, match, limit, fields);
+        List<Map<String, Object>> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            result.add(toMap(fields, row));
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> searchRows(UUID userId, String match, int limit, Set<TodoFieldEnum> fields) {
+        String select = fields.stream()
+                .map(f -> "t." + f.getColumn() + " AS " + f.getColumn())
+                .collect(Collectors.joining(", "));
+        NativeQuery<Object> query = em.createNativeQuery("""
+                        SELECT %s FROM todos_fts
+                        JOIN todos_tbl t ON t.rowid = todos_fts.rowid
+                        WHERE todos_fts MATCH :match
+                          AND t.user_id = :userId
+                        ORDER BY bm25(todos_fts, 10.0, 1.0)
+                        LIMIT :limit
+                        """.formatted(select))
+                .unwrap(NativeQuery.class);
+        // 엔티티 매핑과 같은 Java 타입으로 읽도록 컬럼별 타입 지정
+        for (TodoFieldEnum field : fields) {
+            query.addScalar(field.getColumn(), field.getJavaType());
+        }
+        List<Object> rows = query
+                .setParameter("match", match)
+                .setParameter("userId", userId)
+                .setParameter("limit", limit)
+                .getResultList();
+
+        List<Object[]> result = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            result.add(row instanceof Object[] values ? values : new Object[]{row});
+        }
+        return result;
+    }
+
+    /* ALL_FIELDS 선언 순서 = TodoDTO 생성자 인자 순서 */
+    private static TodoDTO toDto(Object[] r) {
+        return new TodoDTO((UUID) r[0], (String) r[1], (String) r[2],
+                Boolean.TRUE.equals(r[3]), (LocalDateTime) r[4], (LocalDateTime) r[5]);
+    }
+
+    private static Map<String, Object> toMap(Set<TodoFieldEnum> fields, Object[] values) {
+        Map<String, Object> map = new LinkedHashMap<>(fields.size() * 2);
+        int i = 0;
+        for (TodoFieldEnum field : fields) {
+            map.put(field.getProperty(), values[i++]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,34 @@
+package io.github.leehanryang.sundriesapi.domain.repository;
+
+import io.github.leehanryang.sundriesapi.domain.entity.TodoTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface TodoTombstoneRepository extends JpaRepository<TodoTombstone, UUID> {
+
+    @Query("""
+            select t.todoId from TodoTombstone t
+            where t.userId = :userId and t.deletedAt > :since
+            """)
+    List<UUID> findTodoIdsDeletedAfter(@Param("userId") UUID userId, @Param("since") LocalDateTime since);
+
+    /**
+     * 보존 기간이 지난 기록을 batchSize 건씩 삭제 (writer 점유 시간을 짧게 유지)
+     *
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query(value = """
+            DELETE FROM todo_tombstones
+            WHERE rowid IN (SELECT rowid FROM todo_tombstones WHERE deleted_at < :cutoff LIMIT :batchSize)
+            """, nativeQuery = true)
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff, @Param("batchSize") int batchSize);
+}
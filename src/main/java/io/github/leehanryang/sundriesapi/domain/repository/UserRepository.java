@@ -2,6 +2,10 @@ package io.github.leehanryang.sundriesapi.domain.repository;
 
 import io.github.leehanryang.sundriesapi.domain.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -13,4 +17,14 @@ public interface UserRepository extends JpaRepository<User, UUID> {
     boolean existsByUsername(String username);
 
     Optional<User> findByEmail(String email);
+
+    /* 로그인용 – 사용자와 권한을 한 번의 쿼리로 로딩 */
+    @Query("select u from User u left join fetch u.roles where u.email = :email")
+    Optional<User> findWithRolesByEmail(@Param("email") String email);
+
+    /* 로그인 시 재해시 – 엔티티 로딩 없이 비밀번호 컬럼만 갱신 */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :password where u.id = :id")
+    int updatePassword(@Param("id") UUID id, @Param("password") String password);
 }
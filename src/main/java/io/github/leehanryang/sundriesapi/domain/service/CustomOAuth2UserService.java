@@ -2,6 +2,7 @@ package io.github.leehanryang.sundriesapi.domain.service;
 
 import io.github.leehanryang.sundriesapi.common.enums.OAuth2Enum;
 import io.github.leehanryang.sundriesapi.common.enums.RoleEnum;
+import io.github.leehanryang.sundriesapi.common.security.oauth2.CustomOAuth2User;
 import io.github.leehanryang.sundriesapi.common.security.oauth2.OAuth2Util;
 import io.github.leehanryang.sundriesapi.domain.dto.UserDTO;
 import io.github.leehanryang.sundriesapi.domain.entity.SocialAccount;
@@ -9,25 +10,20 @@ import io.github.leehanryang.sundriesapi.domain.entity.User;
 import io.github.leehanryang.sundriesapi.domain.repository.SocialAccountRepository;
 import io.github.leehanryang.sundriesapi.domain.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
-import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
     private final OAuth2Util oAuth2Util;
-    private final PasswordEncoder passwordEncoder;
     private final UserRepository userRepository;
     private final SocialAccountRepository socialAccountRepository;
 
@@ -36,6 +32,9 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         return super.loadUser(req);
     }
 
+    /**
+     * 사용자를 한 번만 조회·생성하고 그 결과를 CustomOAuth2User 에 담아 인증 흐름으로 넘깁니다.
+     */
     @Override
     @Transactional
     public OAuth2User loadUser(OAuth2UserRequest req) {
@@ -43,27 +42,35 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         Map<String, Object> attr = oauth2User.getAttributes();
 
         String provider = req.getClientRegistration().getRegistrationId();
-        String providerId = oAuth2Util.extractProviderId(provider, attr);
-        String email = oAuth2Util.extractEmail(provider, attr);
-        String username = oAuth2Util.extractUserName(provider);
+        UserDTO user = resolveUser(provider, attr);
 
-        processOAuth2User(
-                username,
-                email,
-                passwordEncoder.encode(UUID.randomUUID().toString()),
-                provider,
-                providerId
-        );
-
-        return new DefaultOAuth2User(
-                Set.of(RoleEnum.USER::getRole),
+        return new CustomOAuth2User(
+                user,
                 attr,
                 oAuth2Util.getNameAttributeKey(provider)
         );
     }
 
+    /**
+     * 프로바이더 속성으로 사용자 조회 또는 생성
+     */
+    @Transactional
+    public UserDTO resolveUser(String provider, Map<String, Object> attr) {
+        return processOAuth2User(
+                oAuth2Util.extractUserName(provider),
+                oAuth2Util.extractEmail(provider, attr),
+                provider,
+                oAuth2Util.extractProviderId(provider, attr)
+        );
+    }
+
+    /**
+     * 소셜 계정 → 이메일 → 신규 생성 순으로 사용자를 결정합니다.
+     * <p>
+     * 신규 사용자는 비밀번호 해시 대신 {@link User#NO_PASSWORD} 로 저장되어 BCrypt 연산이 없습니다.
+     */
     @Transactional
-    public UserDTO processOAuth2User(String username, String email, String encodedPassword,
+    public UserDTO processOAuth2User(String username, String email,
                                      String provider, String providerId) {
         OAuth2Enum providerEnum = OAuth2Enum.from(provider);
         // 같은 소셜 계정이 등록되어 있는지 확인
@@ -77,7 +84,7 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         User user = userRepository.findByEmail(email)
                 .orElseGet(() -> {
                     // 신규 계정 생성
-                    User newUser = User.create(username, encodedPassword, email);
+                    User newUser = User.create(username, User.NO_PASSWORD, email);
                     newUser.addRole(RoleEnum.USER.getRole());
                     return userRepository.save(newUser);
                 });
@@ -2,44 +2,67 @@ package io.github.leehanryang.sundriesapi.domain.service;
 
 import io.github.leehanryang.sundriesapi.common.enums.ErrorCodeEnum;
 import io.github.leehanryang.sundriesapi.common.exception.ApiException;
+import io.github.leehanryang.sundriesapi.common.exception.ServiceBusyException;
 import io.github.leehanryang.sundriesapi.common.security.jwt.JwtUtil;
 import io.github.leehanryang.sundriesapi.domain.dto.LoginDTO;
+import io.github.leehanryang.sundriesapi.domain.dto.TokenDTO;
 import io.github.leehanryang.sundriesapi.domain.entity.User;
 import io.github.leehanryang.sundriesapi.domain.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 @Slf4j
+@Timed(value = "app.service", histogram = true)
 @Service
 @RequiredArgsConstructor
 public class LoginService {
 
     private final UserRepository userRepository;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtProvider;
+    private final RefreshTokenService refreshTokenService;
 
-    public String authenticate(LoginDTO dto) {
-        User user = userRepository.findByEmail(dto.getEmail())
+    /**
+     * 이메일·비밀번호 로그인
+     * <p>
+     * 사용자와 권한을 fetch join 한 번으로 읽어 비밀번호를 직접 검증합니다.
+     * (AuthenticationManager → UserDetailsService 경유 시 발생하던 재조회를 생략)
+     *
+     * @return 액세스 토큰과 리프레시 토큰
+     */
+    public TokenDTO authenticate(LoginDTO dto) {
+        User user = userRepository.findWithRolesByEmail(dto.getEmail())
                 .orElseThrow(() -> new ApiException(ErrorCodeEnum.USER_NOT_FOUND));
-        String role = user.getRoles().iterator().next();
+
+        // 소셜 전용 계정은 해시 비교 없이 거부
+        if (User.NO_PASSWORD.equals(user.getPassword())
+                || !passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
+            // 아이디·비밀번호 검증 실패
+            throw new ApiException(ErrorCodeEnum.LOGIN_FAILED);
+        }
+
+        rehashIfNeeded(user, dto.getPassword());
 
         dto.setUsername(user.getUsername());
         dto.setId(user.getId());
+        String role = user.getRoles().iterator().next();
 
+        String accessToken = jwtProvider.generateToken(dto.getId(), dto.getUsername(), dto.getEmail(), role);
+        return new TokenDTO(accessToken, refreshTokenService.issue(user.getId()));
+    }
+
+    /* 저장된 해시의 형식·cost 가 현재 설정과 다르면 검증된 평문으로 재해시 (실패해도 로그인은 유지) */
+    private void rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
         try {
-            authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(dto.getEmail(), dto.getPassword())
-            );
-        } catch (BadCredentialsException | UsernameNotFoundException ex) {
-            // 아이디·비밀번호 검증 실패
-            throw new ApiException(ErrorCodeEnum.LOGIN_FAILED);
+            userRepository.updatePassword(user.getId(), passwordEncoder.encode(rawPassword));
+        } catch (ServiceBusyException e) {
+            log.debug("해시 대기열 포화 – 재해시를 다음 로그인으로 미룸: {}", user.getId());
         }
-
-        return jwtProvider.generateToken(dto.getId(), dto.getUsername(), dto.getEmail(), role);
     }
 }
@@ -0,0 +1,154 @@
+package io.github.leehanryang.sundriesapi.domain.service;
+
+import io.github.leehanryang.sundriesapi.common.enums.ErrorCodeEnum;
+import io.github.leehanryang.sundriesapi.common.exception.ApiException;
+import io.github.leehanryang.sundriesapi.common.jpa.UuidV7Generator;
+import io.github.leehanryang.sundriesapi.common.security.jwt.JwtUtil;
+import io.github.leehanryang.sundriesapi.domain.dto.TokenDTO;
+import io.github.leehanryang.sundriesapi.domain.entity.RefreshToken;
+import io.github.leehanryang.sundriesapi.domain.entity.User;
+import io.github.leehanryang.sundriesapi.domain.repository.RefreshTokenRepository;
+import io.github.leehanryang.sundriesapi.domain.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급·회전·폐기
+ * <p>
+ * - 토큰 원문은 응답으로만 전달하고 DB 에는 SHA-256 해시만 저장합니다.
+ * - 갱신 시 기존 토큰은 회전(rotated) 처리되고 같은 family 로 새 토큰이 발급됩니다.
+ * - 이미 회전된 토큰이 다시 제출되면 탈취로 보고 family 전체를 삭제합니다.
+ */
+@Slf4j
+@Timed(value = "app.service", histogram = true)
+@Service
+@Transactional(readOnly = true)
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final int SWEEP_BATCH_SIZE = 1000;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final JwtUtil jwtUtil;
+    private final TokenRevocationService revocationService;
+    private final Duration refreshTtl;
+    private final SecureRandom random = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               JwtUtil jwtUtil,
+                               TokenRevocationService revocationService,
+                               @Value("${todo.jwt.refresh-ttl:P14D}") Duration refreshTtl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.jwtUtil = jwtUtil;
+        this.revocationService = revocationService;
+        this.refreshTtl = refreshTtl;
+    }
+
+    /**
+     * 로그인 시 새 family 로 리프레시 토큰 발급
+     */
+    @Transactional
+    public String issue(UUID userId) {
+        return issue(userId, UuidV7Generator.next());
+    }
+
+    /**
+     * 리프레시 토큰 회전 – 새 액세스·리프레시 토큰 쌍 반환
+     */
+    @Transactional(noRollbackFor = ApiException.class) // 재사용 감지 시 family 삭제는 커밋
+    public TokenDTO rotate(String rawToken) {
+        if (rawToken == null || rawToken.isBlank()) {
+            throw new ApiException(ErrorCodeEnum.INVALID_REFRESH_TOKEN);
+        }
+        RefreshToken current = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new ApiException(ErrorCodeEnum.INVALID_REFRESH_TOKEN));
+
+        LocalDateTime now = LocalDateTime.now();
+        if (current.isRotated()) {
+            refreshTokenRepository.deleteByFamilyId(current.getFamilyId());
+            log.warn("Refresh token reuse detected – family {} revoked", current.getFamilyId());
+            throw new ApiException(ErrorCodeEnum.INVALID_REFRESH_TOKEN);
+        }
+        if (current.isExpired(now)) {
+            throw new ApiException(ErrorCodeEnum.TOKEN_EXPIRED);
+        }
+
+        User user = userRepository.findById(current.getUserId())
+                .orElseThrow(() -> new ApiException(ErrorCodeEnum.INVALID_REFRESH_TOKEN));
+        current.rotate(now);
+
+        String accessToken = jwtUtil.generateToken(
+                user.getId(), user.getUsername(), user.getEmail(), user.getRoles().iterator().next());
+        return new TokenDTO(accessToken, issue(user.getId(), current.getFamilyId()));
+    }
+
+    /**
+     * 로그아웃 – 액세스 토큰은 jti 폐기, 리프레시 토큰은 family 삭제
+     */
+    @Transactional
+    public void revoke(String accessToken, String refreshToken) {
+        JwtUtil.VerifiedToken verified = accessToken != null ? jwtUtil.verify(accessToken) : null;
+        if (verified != null) {
+            revocationService.revoke(verified.jti(), verified.expiresAt());
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshTokenRepository.findByTokenHash(hash(refreshToken))
+                    .ifPresent(t -> refreshTokenRepository.deleteByFamilyId(t.getFamilyId()));
+        }
+    }
+
+    /**
+     * 만료된 리프레시 토큰 일괄 정리
+     */
+    @Scheduled(fixedDelayString = "${todo.jwt.sweep-interval:PT10M}",
+            initialDelayString = "${todo.jwt.sweep-interval:PT10M}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 배치마다 개별 커밋
+    public void sweepExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int removed;
+        do {
+            removed = refreshTokenRepository.deleteExpired(now, SWEEP_BATCH_SIZE);
+            total += removed;
+        } while (removed == SWEEP_BATCH_SIZE);
+        if (total > 0) {
+            log.info("Swept {} expired refresh tokens", total);
+        }
+    }
+
+    private String issue(UUID userId, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String raw = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(
+                RefreshToken.issue(userId, familyId, hash(raw), LocalDateTime.now().plus(refreshTtl)));
+        return raw;
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.leehanryang.sundriesapi.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.leehanryang.sundriesapi.domain.event.TodoChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 Todo 변경 버전 – 조건부 GET(ETag / Last-Modified) 판단용
+ * <p>
+ * - 커밋된 변경마다 전역 시퀀스에서 새 값을 받아 버전을 갱신합니다.
+ * - 항목이 없거나(최초·축출) 재기동된 경우에도 새 시퀀스·epoch 를 부여하므로
+ *   이전에 발급한 ETag 와 절대 겹치지 않습니다. (최악의 경우 한 번 전체 응답)
+ */
+@Component
+public class TodoChangeTracker {
+
+    /* 프로세스 기동마다 달라지는 ETag prefix */
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final Cache<UUID, Version> versions;
+
+    public TodoChangeTracker(@Value("${todo.etag.max-users:100000}") long maxUsers) {
+        this.versions = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .build();
+    }
+
+    public record Version(String etag, long lastModified) {
+    }
+
+    public Version current(UUID userId) {
+        return versions.get(userId, id -> next());
+    }
+
+    @TransactionalEventListener
+    public void onTodoChanged(TodoChangedEvent event) {
+        versions.put(event.userId(), next());
+    }
+
+    private Version next() {
+        // 약한 ETag – 압축(gzip) 응답에도 그대로 사용
+        return new Version("W/\"" + epoch + "-" + sequence.incrementAndGet() + "\"", System.currentTimeMillis());
+    }
+}
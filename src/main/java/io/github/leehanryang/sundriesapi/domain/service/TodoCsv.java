@@ -0,0 +1,115 @@
+package io.github.leehanryang.sundriesapi.domain.service;
+
+import io.github.leehanryang.sundriesapi.common.enums.TodoFieldEnum;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Todo CSV 행 변환 (RFC 4180 – 쉼표·따옴표·줄바꿈이 있는 값은 따옴표로 감쌈)
+ * <p>
+ * 열 순서는 TodoFieldEnum 선언 순서를 따릅니다.
+ */
+final class TodoCsv {
+
+    private TodoCsv() {
+    }
+
+    static void writeHeader(Writer out) throws IOException {
+        TodoFieldEnum[] fields = TodoFieldEnum.values();
+        for (int i = 0; i < fields.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(fields[i].getProperty());
+        }
+        out.write("\r\n");
+    }
+
+    static void writeRow(Writer out, TodoDTO todo) throws IOException {
+        writeValue(out, todo.getId());
+        out.write(',');
+        writeValue(out, todo.getTitle());
+        out.write(',');
+        writeValue(out, todo.getDescription());
+        out.write(',');
+        out.write(Boolean.toString(todo.isCompleted()));
+        out.write(',');
+        writeValue(out, todo.getCreatedAt());
+        out.write(',');
+        writeValue(out, todo.getUpdatedAt());
+        out.write("\r\n");
+    }
+
+    /**
+     * 레코드 하나 읽기 – 따옴표 안의 쉼표·줄바꿈은 값으로 취급
+     *
+     * @return 필드 목록, 입력 끝이면 null
+     */
+    static List<String> readRecord(Reader in) throws IOException {
+        int c = in.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder value = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    // 닫히지 않은 따옴표 – 입력 끝까지를 값으로 취급
+                    fields.add(value.toString());
+                    return fields;
+                }
+                if (c == '"') {
+                    int next = in.read();
+                    if (next != '"') {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                }
+                value.append((char) c);
+            } else if (c == -1 || c == '\n') {
+                fields.add(value.toString());
+                return fields;
+            } else if (c == ',') {
+                fields.add(value.toString());
+                value.setLength(0);
+            } else if (c == '"' && value.isEmpty()) {
+                quoted = true;
+            } else if (c != '\r') {
+                value.append((char) c);
+            }
+            c = in.read();
+        }
+    }
+
+    private static void writeValue(Writer out, Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String s = value.toString();
+        if (!needsQuote(s)) {
+            out.write(s);
+            return;
+        }
+        out.write('"');
+        out.write(s.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    private static boolean needsQuote(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,134 @@
+package io.github.leehanryang.sundriesapi.domain.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.github.leehanryang.sundriesapi.common.enums.TodoFileFormatEnum;
+import io.github.leehanryang.sundriesapi.common.exception.ServiceBusyException;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+import io.github.leehanryang.sundriesapi.domain.entity.Todo;
+import io.github.leehanryang.sundriesapi.domain.repository.TodoRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+
+/**
+ * 사용자 Todo 전체 내보내기 (NDJSON / CSV)
+ * <p>
+ * - 목록을 만들지 않고 DB 커서에서 한 행씩 읽어 바로 응답 스트림에 씁니다.
+ * - 읽은 엔티티는 즉시 detach 해 영속성 컨텍스트가 커지지 않으므로 행 수와 무관하게 메모리 사용량이 일정합니다.
+ * <p>
+ * 대신 응답을 다 쓸 때까지 읽기 트랜잭션과 커넥션을 쥐고 있으므로, 느린 클라이언트가 읽기 풀을 잠식하지 않도록
+ * 동시 내보내기 수(초과 시 503 + Retry-After)와 한 건의 최대 소요 시간(초과 시 응답 중단)을 제한합니다.
+ * WAL 에서는 열린 읽기 트랜잭션이 체크포인트도 막으므로 최대 소요 시간은 짧게 유지합니다.
+ */
+@Timed(value = "app.service", histogram = true)
+@Service
+@RequiredArgsConstructor
+public class TodoExportService {
+
+    private final TodoRepository todoRepository;
+    private final ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Value("${todo.export.max-concurrency:2}") // 읽기 커넥션을 오래 점유할 수 있는 동시 내보내기 수
+    private int maxConcurrency;
+
+    @Value("${todo.export.max-duration:PT1M}") // 한 건이 읽기 트랜잭션을 유지할 수 있는 최대 시간
+    private Duration maxDuration;
+
+    @Value("${todo.export.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    private Semaphore permits;
+
+    @PostConstruct
+    void init() {
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    /**
+     * 커넥션은 첫 쿼리 시점에 획득되므로(LazyConnectionDataSourceProxy) 거절 시에는 커넥션을 빌리지 않습니다.
+     *
+     * @return 내보낸 행 수
+     * @throws ServiceBusyException 동시 내보내기 수 초과
+     * @throws IOException          응답 쓰기 실패 또는 최대 소요 시간 초과
+     */
+    @Transactional(readOnly = true)
+    public long export(UUID userId, TodoFileFormatEnum format, OutputStream out) throws IOException {
+        if (!permits.tryAcquire()) {
+            throw new ServiceBusyException(retryAfterSeconds);
+        }
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        try (Stream<Todo> rows = todoRepository.streamAllByUserId(userId)) {
+            return switch (format) {
+                case NDJSON -> writeNdjson(rows.iterator(), out, deadline);
+                case CSV -> writeCsv(rows.iterator(), out, deadline);
+            };
+        } finally {
+            permits.release();
+        }
+    }
+
+    private long writeNdjson(Iterator<Todo> rows, OutputStream out, long deadline) throws IOException {
+        // 행마다 flush 하지 않고 출력 버퍼 단위로 전송
+        ObjectWriter writer = objectMapper.writerFor(TodoDTO.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator gen = objectMapper.getFactory().createGenerator(out);
+        gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        gen.setRootValueSeparator(null); // 구분자는 아래에서 직접 '\n' 기록
+
+        long count = 0;
+        while (rows.hasNext()) {
+            writer.writeValue(gen, next(rows, deadline));
+            gen.writeRaw('\n');
+            count++;
+        }
+        gen.close();
+        return count;
+    }
+
+    private long writeCsv(Iterator<Todo> rows, OutputStream out, long deadline) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        TodoCsv.writeHeader(writer);
+
+        long count = 0;
+        while (rows.hasNext()) {
+            TodoCsv.writeRow(writer, next(rows, deadline));
+            count++;
+        }
+        writer.flush();
+        return count;
+    }
+
+    /* DTO 변환 후 엔티티를 영속성 컨텍스트에서 분리 */
+    private TodoDTO next(Iterator<Todo> rows, long deadline) throws IOException {
+        if (System.nanoTime() - deadline > 0) {
+            throw new IOException("내보내기 최대 소요 시간 초과: " + maxDuration);
+        }
+        Todo todo = rows.next();
+        TodoDTO dto = todo.toDto();
+        em.detach(todo);
+        return dto;
+    }
+}
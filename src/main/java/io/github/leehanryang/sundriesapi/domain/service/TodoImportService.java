@@ -0,0 +1,210 @@
+package io.github.leehanryang.sundriesapi.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.github.leehanryang.sundriesapi.common.enums.ErrorCodeEnum;
+import io.github.leehanryang.sundriesapi.common.enums.TodoFileFormatEnum;
+import io.github.leehanryang.sundriesapi.common.exception.ApiException;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoImportDTO;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Todo 대량 가져오기 (NDJSON / CSV)
+ * <p>
+ * - 요청 본문을 한 행씩 읽어 TodoDTO 제약으로 검증하고, chunk-size 건씩 모아 묶음마다 개별 트랜잭션으로 저장합니다.
+ * - 저장은 JDBC 배치 INSERT 로 전송되고 묶음마다 영속성 컨텍스트를 비우므로 파일 크기와 무관하게 메모리 사용량이 일정합니다.
+ * - 잘못된 행은 건너뛰고 행 번호와 사유를 결과에 담습니다. 이미 커밋된 묶음은 이후 실패와 무관하게 유지됩니다.
+ */
+@Slf4j
+@Timed(value = "app.service", histogram = true)
+@Service
+public class TodoImportService {
+
+    private final TodoService todoService;
+    private final Validator validator;
+    private final ObjectReader todoReader;
+    private final Counter importedRows;
+    private final Counter failedRows;
+
+    @Value("${todo.import.chunk-size:1000}")
+    private int chunkSize;
+
+    @Value("${todo.import.max-errors:100}")
+    private int maxErrors;
+
+    public TodoImportService(TodoService todoService, Validator validator,
+                             ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.todoService = todoService;
+        this.validator = validator;
+        this.todoReader = objectMapper.readerFor(TodoDTO.class);
+        this.importedRows = Counter.builder("todo.import.rows").tag("result", "imported").register(meterRegistry);
+        this.failedRows = Counter.builder("todo.import.rows").tag("result", "failed").register(meterRegistry);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 묶음마다 개별 커밋
+    public TodoImportDTO importTodos(UUID userId, TodoFileFormatEnum format, InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Progress progress = new Progress(userId);
+        switch (format) {
+            case NDJSON -> readNdjson(reader, progress);
+            case CSV -> readCsv(reader, progress);
+        }
+        progress.flush();
+
+        log.info("Imported {} todos for user {} ({} failed)", progress.imported, userId, progress.failed);
+        return TodoImportDTO.builder()
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .errors(progress.errors)
+                .errorsTruncated(progress.failed > progress.errors.size())
+                .build();
+    }
+
+    private void readNdjson(BufferedReader reader, Progress progress) throws IOException {
+        long row = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            row++;
+            if (line.isBlank()) {
+                continue;
+            }
+            TodoDTO dto;
+            try {
+                dto = todoReader.readValue(line);
+            } catch (JsonProcessingException e) {
+                progress.reject(row, "JSON 형식이 올바르지 않습니다.");
+                continue;
+            }
+            progress.accept(row, dto);
+        }
+    }
+
+    private void readCsv(BufferedReader reader, Progress progress) throws IOException {
+        skipBom(reader);
+        List<String> header = TodoCsv.readRecord(reader);
+        int title = header == null ? -1 : header.indexOf("title");
+        if (title < 0) {
+            throw new ApiException(ErrorCodeEnum.INVALID_INPUT_VALUE);
+        }
+        int description = header.indexOf("description");
+        int completed = header.indexOf("completed");
+
+        long row = 1;
+        List<String> record;
+        while ((record = TodoCsv.readRecord(reader)) != null) {
+            row++;
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                continue;
+            }
+            String done = column(record, completed);
+            if (done != null && !done.equalsIgnoreCase("true") && !done.equalsIgnoreCase("false")) {
+                progress.reject(row, "completed: true 또는 false 여야 합니다.");
+                continue;
+            }
+            progress.accept(row, TodoDTO.builder()
+                    .title(column(record, title))
+                    .description(column(record, description))
+                    .completed(Boolean.parseBoolean(done))
+                    .build());
+        }
+    }
+
+    /* 없는 열·빈 값은 null */
+    private static String column(List<String> record, int index) {
+        if (index < 0 || index >= record.size() || record.get(index).isEmpty()) {
+            return null;
+        }
+        return record.get(index);
+    }
+
+    /* 스프레드시트가 붙이는 UTF-8 BOM 제거 */
+    private static void skipBom(BufferedReader reader) throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    /**
+     * 한 번의 가져오기 진행 상태 – 검증을 통과한 행을 chunk-size 건까지 모았다가 저장
+     */
+    private final class Progress {
+        private final UUID userId;
+        private final List<TodoDTO> chunk = new ArrayList<>(chunkSize);
+        private final List<Long> chunkRows = new ArrayList<>(chunkSize);
+        private final List<TodoImportDTO.RowError> errors = new ArrayList<>();
+        private long imported;
+        private long failed;
+
+        Progress(UUID userId) {
+            this.userId = userId;
+        }
+
+        void accept(long row, TodoDTO dto) {
+            Set<ConstraintViolation<TodoDTO>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                reject(row, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                return;
+            }
+            chunk.add(dto);
+            chunkRows.add(row);
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(long row, String message) {
+            failed++;
+            failedRows.increment();
+            if (errors.size() < maxErrors) {
+                errors.add(new TodoImportDTO.RowError(row, message));
+            }
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            try {
+                int saved = todoService.importChunk(userId, chunk);
+                imported += saved;
+                importedRows.increment(saved);
+                log.debug("Todo import for user {}: {} imported, {} failed", userId, imported, failed);
+            } catch (DataAccessException e) {
+                // 묶음 전체가 롤백되므로 해당 행 모두 실패 처리
+                log.warn("Todo import chunk failed for user {}: {}", userId, e.getMessage());
+                for (Long row : chunkRows) {
+                    reject(row, "저장에 실패했습니다.");
+                }
+            }
+            chunk.clear();
+            chunkRows.clear();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package io.github.leehanryang.sundriesapi.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+import io.github.leehanryang.sundriesapi.domain.event.TodoChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Todo 단건 JSON 캐시 (id → 수정 시각 + UTF-8 JSON 바이트)
+ * <p>
+ * - 호출 측이 소유자 조건으로 조회한 현재 updatedAt 과 일치할 때만 적중으로 보므로,
+ *   사실상 (id, updatedAt) 키이며 Todo 당 최신 버전 하나만 보관합니다.
+ * - 수정·삭제 커밋 이후에는 해당 항목을 제거합니다. (같은 밀리초 안의 연속 수정 대비)
+ */
+@Component
+public class TodoJsonCache {
+
+    /* 키·수정 시각·항목 자체의 대략적인 고정 비용 */
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+
+    private final Cache<UUID, Entry> entries;
+    private final ObjectWriter todoWriter;
+
+    private record Entry(LocalDateTime updatedAt, byte[] json) {
+    }
+
+    public TodoJsonCache(@Value("${todo.json-cache.max-size:32MB}") DataSize maxSize,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry) {
+        this.todoWriter = objectMapper.writerFor(TodoDTO.class);
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((UUID id, Entry entry) -> entry.json().length + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, entries, "todo.json");
+    }
+
+    /**
+     * 보관된 버전이 updatedAt 과 같으면 그대로, 아니면 loader 로 조회·직렬화해 교체
+     * <p>
+     * 조회·직렬화는 맵 밖에서 수행하고(다른 키를 막지 않도록), 설치만 merge 로 원자적으로 처리합니다.
+     * 그 사이 다른 요청이 더 새로운 버전을 넣었다면 그 항목을 유지하며,
+     * 커밋 직후의 무효화가 늦게 설치된 이전 버전을 걸러내지 못하더라도 updatedAt 불일치로 다시 조회됩니다.
+     */
+    public byte[] get(UUID id, LocalDateTime updatedAt, Supplier<TodoDTO> loader) {
+        Entry cached = entries.getIfPresent(id);
+        if (cached != null && cached.updatedAt().equals(updatedAt)) {
+            return cached.json();
+        }
+        Entry loaded = new Entry(updatedAt, serialize(loader.get()));
+        entries.asMap().merge(id, loaded, (current, candidate) ->
+                current.updatedAt().isAfter(candidate.updatedAt()) ? current : candidate);
+        return loaded.json();
+    }
+
+    @TransactionalEventListener
+    public void onTodoChanged(TodoChangedEvent event) {
+        if (event.todoId() != null) {
+            entries.invalidate(event.todoId());
+        }
+    }
+
+    private byte[] serialize(TodoDTO todo) {
+        try {
+            return todoWriter.writeValueAsBytes(todo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Todo 직렬화 실패", e);
+        }
+    }
+}
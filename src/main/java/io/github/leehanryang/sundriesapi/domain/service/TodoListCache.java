@@ -0,0 +1,81 @@
+package io.github.leehanryang.sundriesapi.domain.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+import io.github.leehanryang.sundriesapi.domain.event.TodoChangedEvent;
+import io.github.leehanryang.sundriesapi.domain.event.UserChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.unit.DataSize;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 사용자별 Todo 목록 캐시 (UUID → 직렬화된 JSON 바이트)
+ * <p>
+ * - 전체 크기를 바이트 합계로 제한하며, 초과 시 Caffeine(W-TinyLFU) 정책으로 축출합니다.
+ * - 생성·수정·삭제·가져오기 커밋 이후 TodoChangedEvent 로 해당 사용자 항목을 무효화합니다.
+ *   적재(loader) 중인 키의 무효화는 적재가 끝날 때까지 대기하므로 커밋 이전 목록이 남지 않습니다.
+ */
+@Component
+public class TodoListCache {
+
+    /* 키·항목 자체의 대략적인 고정 비용 */
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+
+    private final Cache<UUID, byte[]> lists;
+    private final ObjectWriter listWriter;
+
+    public TodoListCache(@Value("${todo.list-cache.max-size:64MB}") DataSize maxSize,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry) {
+        this.listWriter = objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, TodoDTO.class));
+        this.lists = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((UUID userId, byte[] json) -> json.length + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, lists, "todo.lists");
+        Gauge.builder("todo.list.cache.bytes", lists,
+                        c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회·직렬화해 저장 (같은 사용자 동시 조회는 한 번만 실행)
+     */
+    public byte[] get(UUID userId, Function<UUID, List<TodoDTO>> loader) {
+        return lists.get(userId, id -> serialize(loader.apply(id)));
+    }
+
+    @TransactionalEventListener
+    public void onTodoChanged(TodoChangedEvent event) {
+        lists.invalidate(event.userId());
+    }
+
+    /* 탈퇴 시 Todo 도 함께 삭제되므로 목록 제거 */
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        lists.invalidate(event.userId());
+    }
+
+    private byte[] serialize(List<TodoDTO> todos) {
+        try {
+            return listWriter.writeValueAsBytes(todos);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Todo 목록 직렬화 실패", e);
+        }
+    }
+}
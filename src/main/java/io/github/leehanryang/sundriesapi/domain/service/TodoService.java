@@ -1,76 +1,312 @@
 package io.github.leehanryang.sundriesapi.domain.service;
 
 import io.github.leehanryang.sundriesapi.common.enums.ErrorCodeEnum;
+import io.github.leehanryang.sundriesapi.common.enums.TodoFieldEnum;
 import io.github.leehanryang.sundriesapi.common.exception.ApiException;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoBatchDTO;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoCursor;
 import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoPageDTO;
 import io.github.leehanryang.sundriesapi.domain.entity.Todo;
+import io.github.leehanryang.sundriesapi.domain.event.TodoChangedEvent;
 import io.github.leehanryang.sundriesapi.domain.entity.User;
 import io.github.leehanryang.sundriesapi.domain.repository.TodoRepository;
 import io.github.leehanryang.sundriesapi.domain.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+@Timed(value = "app.service", histogram = true)
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class TodoService {
+    /* 한 페이지 최대 건수 – 요청 크기와 무관하게 힙 사용량을 고정 */
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    public static final int DEFAULT_SEARCH_LIMIT = 50;
+    public static final int MAX_SEARCH_LIMIT = 100;
+
     private final TodoRepository todoRepository;
     private final UserRepository userRepository;
+    private final TodoChangeTracker changeTracker;
+    private final TodoListCache todoListCache;
+    private final TodoJsonCache todoJsonCache;
+    private final ApplicationEventPublisher eventPublisher;
 
+    /* 작성자는 JWT 로 검증된 사용자의 참조(프록시)만 연결 – 사용자 SELECT 생략 */
     @Transactional
     public TodoDTO create(UUID userId, TodoDTO dto) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorCodeEnum.USER_NOT_FOUND));
+        Todo todo = dto.toEntity(userRepository.getReferenceById(userId));
+        flushWithAuthorReference(() -> todoRepository.saveAndFlush(todo));
+        TodoDTO saved = todo.toDto();
+        eventPublisher.publishEvent(TodoChangedEvent.created(userId, saved));
+        return saved;
+    }
+
+    /**
+     * 생성·수정·삭제 일괄 처리 (단일 트랜잭션)
+     * <p>
+     * - 수정·삭제 대상은 IN 쿼리 한 번으로 조회해 존재(404)·소유권(403)을 먼저 모두 검증합니다.
+     * - 생성 시 작성자는 JWT 로 검증된 사용자의 참조(프록시)만 연결해 SELECT 를 생략합니다.
+     * - 실제 쓰기는 flush 시점에 Hibernate JDBC 배치로 묶여 전송됩니다.
+     */
+    @Transactional
+    public TodoBatchDTO.Result batch(UUID userId, List<TodoBatchDTO.Operation> operations) {
+        Set<UUID> targetIds = new LinkedHashSet<>();
+        for (TodoBatchDTO.Operation op : operations) {
+            boolean needsTitle = op.getType() != TodoBatchDTO.Type.DELETE;
+            if (needsTitle && (op.getTitle() == null || op.getTitle().isBlank())) {
+                throw new ApiException(ErrorCodeEnum.INVALID_INPUT_VALUE);
+            }
+            if (op.getType() != TodoBatchDTO.Type.CREATE) {
+                if (op.getId() == null) {
+                    throw new ApiException(ErrorCodeEnum.INVALID_INPUT_VALUE);
+                }
+                targetIds.add(op.getId());
+            }
+        }
+
+        Map<UUID, Todo> targets = todoRepository.findAllById(targetIds).stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+        for (UUID id : targetIds) {
+            Todo todo = targets.get(id);
+            if (todo == null) {
+                throw new ApiException(ErrorCodeEnum.TODO_DETAIL_NOT_FOUND);
+            }
+            if (!todo.getUser().getId().equals(userId)) {
+                throw new ApiException(ErrorCodeEnum.ACCESS_DENIED);
+            }
+        }
+
+        User author = null;
+        List<Todo> created = new ArrayList<>();
+        List<Todo> updated = new ArrayList<>();
+        List<Todo> deleted = new ArrayList<>();
+        for (TodoBatchDTO.Operation op : operations) {
+            switch (op.getType()) {
+                case CREATE -> {
+                    if (author == null) {
+                        author = userRepository.getReferenceById(userId);
+                    }
+                    created.add(Todo.create(author, op.getTitle(), op.getDescription(), op.isCompleted()));
+                }
+                case UPDATE -> {
+                    Todo todo = targets.get(op.getId());
+                    todo.update(op.getTitle(), op.getDescription(), op.isCompleted());
+                    updated.add(todo);
+                }
+                case DELETE -> deleted.add(targets.get(op.getId()));
+            }
+        }
 
-        Todo todo = dto.toEntity(user);
-        return todoRepository.save(todo).toDto();
+        flushWithAuthorReference(() -> {
+            todoRepository.saveAll(created);
+            todoRepository.deleteAll(deleted);
+            todoRepository.flush();
+        });
+
+        TodoBatchDTO.Result result = TodoBatchDTO.Result.builder()
+                .created(created.stream().map(Todo::toDto).toList())
+                .updated(updated.stream().map(Todo::toDto).toList())
+                .deleted(deleted.stream().map(Todo::getId).distinct().toList())
+                .build();
+        result.getCreated().forEach(t -> eventPublisher.publishEvent(TodoChangedEvent.created(userId, t)));
+        result.getUpdated().forEach(t -> eventPublisher.publishEvent(TodoChangedEvent.updated(userId, t)));
+        result.getDeleted().forEach(id -> eventPublisher.publishEvent(TodoChangedEvent.deleted(userId, id)));
+        return result;
     }
 
-    public List<TodoDTO> findAll(UUID userId) {
-        return todoRepository.findAllByUserIdOrderByCreatedAtDesc(userId)
-                .stream()
-                .map(Todo::toDto)
-                .toList();
+    /**
+     * 가져오기 한 묶음 저장 (TodoImportService 에서 묶음마다 호출 – 묶음 단위 커밋)
+     * <p>
+     * 작성자는 참조(프록시)만 연결하고, 저장 후 영속성 컨텍스트를 비워 다음 묶음으로 엔티티가 누적되지 않게 합니다.
+     * 작성자가 이미 탈퇴했다면(외래키 위반) 이후 묶음도 모두 실패하므로 가져오기 전체를 404 로 중단합니다.
+     *
+     * @param rows 검증을 마친 행
+     * @return 저장한 건수
+     */
+    @Transactional
+    public int importChunk(UUID userId, List<TodoDTO> rows) {
+        User author = userRepository.getReferenceById(userId);
+        List<Todo> todos = new ArrayList<>(rows.size());
+        for (TodoDTO dto : rows) {
+            todos.add(dto.toEntity(author));
+        }
+        flushWithAuthorReference(() -> todoRepository.persistAllAndClear(todos));
+        eventPublisher.publishEvent(TodoChangedEvent.imported(userId));
+        return todos.size();
     }
 
-    public TodoDTO findById(UUID userId, UUID todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new ApiException(ErrorCodeEnum.TODO_DETAIL_NOT_FOUND));
-        if (!todo.getUser().getId().equals(userId)) {
-            throw new ApiException(ErrorCodeEnum.ACCESS_DENIED);
+    /**
+     * 사용자 Todo 목록의 현재 변경 버전 – DB 조회 없이 조건부 GET 판단
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 304 응답에 커넥션을 빌리지 않음
+    public TodoChangeTracker.Version currentVersion(UUID userId) {
+        return changeTracker.current(userId);
+    }
+
+    /**
+     * 전체 목록 JSON – 캐시에 있으면 조회·직렬화 없이 그대로 반환
+     * <p>
+     * 캐시에 없을 때만 DTO 프로젝션으로 조회해 직렬화합니다.
+     */
+    public byte[] findAllJson(UUID userId) {
+        return todoListCache.get(userId, todoRepository::findDtosByUserId);
+    }
+
+    /**
+     * 선택한 필드만 조회 (fields= 파라미터) – 해당 컬럼만 SELECT
+     */
+    public List<Map<String, Object>> findAll(UUID userId, Set<TodoFieldEnum> fields) {
+        return todoRepository.findFieldsByUserId(userId, fields);
+    }
+
+    /**
+     * (created_at, id) 기반 Keyset 페이지 조회
+     * <p>
+     * OFFSET 없이 인덱스 순서대로 size + 1 건만 읽어 다음 페이지 존재 여부를 판단합니다.
+     */
+    public TodoPageDTO findPage(UUID userId, String cursor, Integer size) {
+        int pageSize = (size == null || size < 1) ? DEFAULT_PAGE_SIZE : Math.min(size, MAX_PAGE_SIZE);
+        Pageable limit = PageRequest.ofSize(pageSize + 1);
+
+        List<Todo> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = todoRepository.findFirstPage(userId, limit);
+        } else {
+            TodoCursor after = TodoCursor.decode(cursor);
+            rows = todoRepository.findPageAfter(userId, after.createdAt(), after.id(), limit);
         }
-        return todo.toDto();
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Todo> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return TodoPageDTO.builder()
+                .items(page.stream().map(Todo::toDto).toList())
+                .nextCursor(hasNext ? TodoCursor.of(page.get(pageSize - 1)).encode() : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 단건 수정 시각 – 소유자 조건으로 이 컬럼만 조회 (조건부 GET 판단·JSON 캐시 키)
+     *
+     * @throws ApiException 없으면 404, 다른 사용자 소유면 403
+     */
+    public LocalDateTime findUpdatedAt(UUID userId, UUID todoId) {
+        return todoRepository.findUpdatedAtByIdAndUserId(todoId, userId)
+                .orElseThrow(() -> notFoundOrDenied(todoId));
+    }
+
+    /**
+     * 단건 JSON – {@link #findUpdatedAt} 으로 확인한 (id, updatedAt) 이 캐시에 있으면 그대로 반환
+     * <p>
+     * 캐시에 없을 때만 엔티티를 조회해 직렬화합니다.
+     */
+    public byte[] findByIdJson(UUID userId, UUID todoId, LocalDateTime updatedAt) {
+        return todoJsonCache.get(todoId, updatedAt, () -> findById(userId, todoId));
+    }
+
+    public TodoDTO findById(UUID userId, UUID todoId) {
+        return todoRepository.findByIdAndUserId(todoId, userId)
+                .map(Todo::toDto)
+                .orElseThrow(() -> notFoundOrDenied(todoId));
     }
 
     @Transactional
     public TodoDTO update(UUID userId, UUID todoId, TodoDTO dto) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new ApiException(ErrorCodeEnum.TODO_DETAIL_NOT_FOUND));
-        if (!todo.getUser().getId().equals(userId)) {
-            throw new ApiException(ErrorCodeEnum.ACCESS_DENIED);
-        }
-        todo.update(dto.getTitle(), dto.getDescription(), dto.isCompleted());
-        return todoRepository.save(todo).toDto();
+        TodoDTO updated = todoRepository.updateByIdAndUserId(todoId, userId,
+                        dto.getTitle(), dto.getDescription(), dto.isCompleted(), LocalDateTime.now())
+                .orElseThrow(() -> notFoundOrDenied(todoId));
+        eventPublisher.publishEvent(TodoChangedEvent.updated(userId, updated));
+        return updated;
     }
 
     @Transactional
     public void delete(UUID userId, UUID todoId) {
-        Todo todo = todoRepository.findById(todoId)
-                .orElseThrow(() -> new ApiException(ErrorCodeEnum.TODO_DETAIL_NOT_FOUND));
-        if (!todo.getUser().getId().equals(userId)) {
-            throw new ApiException(ErrorCodeEnum.ACCESS_DENIED);
+        if (todoRepository.deleteByIdAndUserId(todoId, userId) == 0) {
+            throw notFoundOrDenied(todoId);
         }
-        todoRepository.delete(todo);
+        eventPublisher.publishEvent(TodoChangedEvent.deleted(userId, todoId));
     }
 
-    public List<TodoDTO> search(UUID userId, String keyword) {
-        return todoRepository.findByUserIdAndTitleContaining(userId, keyword)
-                .stream()
-                .map(Todo::toDto)
-                .toList();
+    /* 소유권 조건에 걸린 경우에만 추가 조회 – 다른 사용자 소유면 403, 없으면 404 */
+    private ApiException notFoundOrDenied(UUID todoId) {
+        return todoRepository.existsById(todoId)
+                ? new ApiException(ErrorCodeEnum.ACCESS_DENIED)
+                : new ApiException(ErrorCodeEnum.TODO_DETAIL_NOT_FOUND);
+    }
+
+    /*
+     * 작성자를 참조(프록시)로만 연결한 쓰기 – 메서드 안에서 flush 까지 수행
+     * 토큰 만료 전 탈퇴한 회원은 외래키 위반으로 드러나므로 500 대신 404 로 변환
+     */
+    private static void flushWithAuthorReference(Runnable write) {
+        try {
+            write.run();
+        } catch (DataIntegrityViolationException e) {
+            throw new ApiException(ErrorCodeEnum.USER_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 제목·내용 전문 검색 – 각 단어를 접두어로 매칭하고 관련도 순으로 최대 limit 건 반환
+     */
+    public List<TodoDTO> search(UUID userId, String keyword, Integer limit) {
+        String match = toMatchQuery(keyword);
+        if (match.isEmpty()) {
+            return List.of();
+        }
+        return todoRepository.searchFullText(userId, match, searchLimit(limit));
+    }
+
+    /**
+     * 전문 검색 – 선택한 필드만 조회 (fields= 파라미터)
+     */
+    public List<Map<String, Object>> search(UUID userId, String keyword, Integer limit, Set<TodoFieldEnum> fields) {
+        String match = toMatchQuery(keyword);
+        if (match.isEmpty()) {
+            return List.of();
+        }
+        return todoRepository.searchFieldsFullText(userId, match, searchLimit(limit), fields);
+    }
+
+    private static int searchLimit(Integer limit) {
+        return (limit == null || limit < 1) ? DEFAULT_SEARCH_LIMIT : Math.min(limit, MAX_SEARCH_LIMIT);
+    }
+
+    /* 사용자 입력을 FTS5 구문으로 변환 – 단어별 "..."* (AND 결합), 연산자·따옴표는 리터럴 처리 */
+    static String toMatchQuery(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+        StringBuilder sb = new StringBuilder();
+        for (String term : keyword.trim().split("\\s+")) {
+            if (term.isEmpty()) {
+                continue;
+            }
+            if (!sb.isEmpty()) {
+                sb.append(' ');
+            }
+            sb.append('"').append(term.replace("\"", "\"\"")).append("\"*");
+        }
+        return sb.toString();
     }
 }
@@ -0,0 +1,174 @@
+package io.github.leehanryang.sundriesapi.domain.service;
+
+import io.github.leehanryang.sundriesapi.domain.event.TodoChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자별 Todo 변경 SSE 스트림
+ * <p>
+ * - 연결은 서블릿 비동기(SseEmitter)로 유지되어 유휴 구독자가 스레드를 점유하지 않습니다.
+ * - 구독자마다 크기가 제한된 버퍼를 두고, 가득 차면 가장 오래된 이벤트를 버린 뒤 resync 이벤트로 알립니다.
+ * - 전송은 이벤트가 있을 때만 가상 스레드에서 수행되므로 느린 클라이언트가 다른 구독자를 막지 않습니다.
+ * - 버퍼에는 불변 이벤트 값만 담고, SseEventBuilder 는 전송 시점에 구독자별로 새로 만듭니다. (빌더는 스레드 안전하지 않음)
+ */
+@Slf4j
+@Service
+public class TodoStreamService {
+
+    private static final Event CONNECTED = new Event(null, "connected", "", null);
+    private static final Event PING = new Event(null, null, null, "ping");
+    private static final Event RESYNC = new Event(null, "resync", "", null);
+
+    private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicLong eventIds = new AtomicLong();
+
+    @Value("${todo.sse.timeout-ms:1800000}") // 30분 후 클라이언트 재연결
+    private long timeoutMs;
+
+    @Value("${todo.sse.buffer-size:256}")
+    private int bufferSize;
+
+    public SseEmitter subscribe(UUID userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 프록시가 연결을 즉시 확립하도록 첫 이벤트 전송
+        subscriber.offer(CONNECTED);
+        return emitter;
+    }
+
+    @TransactionalEventListener
+    public void onTodoChanged(TodoChangedEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.userId());
+        if (targets == null) {
+            return;
+        }
+        Event sse = new Event(Long.toString(eventIds.incrementAndGet()),
+                event.type().name().toLowerCase(), event, null);
+        for (Subscriber subscriber : targets) {
+            subscriber.offer(sse);
+        }
+    }
+
+    /* 끊어진 연결 감지 및 중간 프록시 유휴 타임아웃 방지 */
+    @Scheduled(fixedRateString = "${todo.sse.heartbeat-ms:30000}")
+    public void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(s -> s.offer(PING)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 버퍼에 보관하는 불변 이벤트 – 구독자 간에 공유해도 안전
+     */
+    private record Event(String id, String name, Object data, String comment) {
+
+        SseEmitter.SseEventBuilder toSse() {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event();
+            if (id != null) {
+                builder.id(id);
+            }
+            if (name != null) {
+                builder.name(name);
+            }
+            if (comment != null) {
+                builder.comment(comment);
+            }
+            if (data != null) {
+                builder.data(data);
+            }
+            return builder;
+        }
+    }
+
+    private final class Subscriber {
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final Deque<Event> buffer = new ArrayDeque<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private boolean overflowed;
+
+        Subscriber(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        void offer(Event event) {
+            synchronized (buffer) {
+                if (buffer.size() >= bufferSize) {
+                    buffer.pollFirst();     // drop-oldest
+                    overflowed = true;
+                }
+                buffer.addLast(event);
+            }
+            if (draining.compareAndSet(false, true)) {
+                dispatcher.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            while (true) {
+                Event next;
+                boolean resync;
+                synchronized (buffer) {
+                    next = buffer.pollFirst();
+                    if (next == null) {
+                        draining.set(false);
+                        return;
+                    }
+                    resync = overflowed;
+                    overflowed = false;
+                }
+                try {
+                    if (resync) {
+                        // 유실 구간이 있으므로 /todos/changes 로 보정하도록 안내
+                        emitter.send(RESYNC.toSse());
+                    }
+                    emitter.send(next.toSse());
+                } catch (Exception e) {
+                    log.debug("SSE subscriber for {} disconnected: {}", userId, e.getMessage());
+                    remove(this);
+                    emitter.completeWithError(e);
+                    return;
+                }
+            }
+        }
+    }
+}
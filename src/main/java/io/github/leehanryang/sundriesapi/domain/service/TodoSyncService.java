@@ -0,0 +1,106 @@
+package io.github.leehanryang.sundriesapi.domain.service;
+
+import io.github.leehanryang.sundriesapi.common.enums.ErrorCodeEnum;
+import io.github.leehanryang.sundriesapi.common.exception.ApiException;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoChangesDTO;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoSyncToken;
+import io.github.leehanryang.sundriesapi.domain.entity.TodoTombstone;
+import io.github.leehanryang.sundriesapi.domain.event.TodoChangedEvent;
+import io.github.leehanryang.sundriesapi.domain.repository.TodoRepository;
+import io.github.leehanryang.sundriesapi.domain.repository.TodoTombstoneRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 델타 동기화 – 워터마크 이후 변경분과 삭제 기록(tombstone) 제공 및 정리
+ */
+@Slf4j
+@Timed(value = "app.service", histogram = true)
+@Service
+@Transactional(readOnly = true)
+public class TodoSyncService {
+
+    /* 커밋 지연으로 워터마크 직전 변경을 놓치지 않도록 다음 토큰을 이만큼 과거로 잡음 */
+    private static final Duration SAFETY_MARGIN = Duration.ofSeconds(5);
+    private static final int COMPACTION_BATCH_SIZE = 1_000;
+
+    private final TodoRepository todoRepository;
+    private final TodoTombstoneRepository tombstoneRepository;
+    private final Duration tombstoneRetention;
+
+    public TodoSyncService(TodoRepository todoRepository,
+                           TodoTombstoneRepository tombstoneRepository,
+                           @Value("${todo.sync.tombstone-retention:P30D}") Duration tombstoneRetention) {
+        this.todoRepository = todoRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    /**
+     * @param token 이전 응답의 nextToken (없으면 전체 목록으로 초기 동기화)
+     */
+    public TodoChangesDTO changesSince(UUID userId, String token) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime next = now.minus(SAFETY_MARGIN);
+
+        if (token == null || token.isBlank()) {
+            return TodoChangesDTO.builder()
+                    .upserted(todoRepository.findDtosByUserId(userId))
+                    .deleted(List.of())
+                    .nextToken(new TodoSyncToken(next).encode())
+                    .build();
+        }
+
+        LocalDateTime since = TodoSyncToken.decode(token).since();
+        if (since.isBefore(now.minus(tombstoneRetention))) {
+            // 이미 정리된 삭제 기록이 있을 수 있음 → 전체 재동기화 필요
+            throw new ApiException(ErrorCodeEnum.SYNC_TOKEN_EXPIRED);
+        }
+
+        List<TodoDTO> upserted = todoRepository.findDtosByUserIdUpdatedAfter(userId, since);
+        List<UUID> deleted = tombstoneRepository.findTodoIdsDeletedAfter(userId, since);
+
+        return TodoChangesDTO.builder()
+                .upserted(upserted)
+                .deleted(deleted)
+                .nextToken(new TodoSyncToken(next.isAfter(since) ? next : since).encode())
+                .build();
+    }
+
+    /* 삭제와 같은 트랜잭션에서 tombstone 기록 */
+    @EventListener
+    @Transactional
+    public void recordTombstone(TodoChangedEvent event) {
+        if (event.type() == TodoChangedEvent.Type.DELETED) {
+            tombstoneRepository.save(TodoTombstone.of(event.userId(), event.todoId(), LocalDateTime.now()));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${todo.sync.compaction-interval:PT1H}",
+            initialDelayString = "${todo.sync.compaction-interval:PT1H}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 배치마다 개별 커밋
+    public void compactTombstones() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(tombstoneRetention);
+        int total = 0;
+        int removed;
+        do {
+            removed = tombstoneRepository.deleteOlderThan(cutoff, COMPACTION_BATCH_SIZE);
+            total += removed;
+        } while (removed == COMPACTION_BATCH_SIZE);
+        if (total > 0) {
+            log.info("Compacted {} todo tombstones older than {}", total, cutoff);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package io.github.leehanryang.sundriesapi.domain.service;
+
+import io.github.leehanryang.sundriesapi.common.security.jwt.JtiBloomFilter;
+import io.github.leehanryang.sundriesapi.domain.entity.RevokedToken;
+import io.github.leehanryang.sundriesapi.domain.repository.RevokedTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 액세스 토큰(jti) 폐기 관리
+ * <p>
+ * 요청마다 호출되는 isRevoked 는 메모리 Bloom 필터로 먼저 거르고,
+ * 필터가 "있을 수 있음"이라고 답한 경우에만 DB 를 조회합니다.
+ * <p>
+ * 필터 재구성은 DB 스냅샷 기준이므로, 직전 재구성 이후 폐기된 jti(pending)를 새 필터에 다시 넣은 뒤 교체합니다.
+ * 스냅샷 시점에 아직 커밋되지 않은 폐기가 새 필터에서 빠지지 않도록 하기 위함입니다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService {
+
+    private static final int SWEEP_BATCH_SIZE = 1000;
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedRevocations;
+    private final double falsePositiveRate;
+
+    private final Object filterLock = new Object();
+    private volatile JtiBloomFilter filter;
+    /* 직전 재구성 시작 이후 폐기된 jti (filterLock 으로 교체) */
+    private Set<UUID> pending = ConcurrentHashMap.newKeySet();
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+                                  @Value("${todo.jwt.revocation.expected:100000}") long expectedRevocations,
+                                  @Value("${todo.jwt.revocation.fpp:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedRevocations = expectedRevocations;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new JtiBloomFilter(expectedRevocations, falsePositiveRate);
+    }
+
+    /* 기동 시 아직 유효한 폐기 기록으로 필터 구성 */
+    @PostConstruct
+    void init() {
+        rebuild();
+    }
+
+    public boolean isRevoked(UUID jti) {
+        if (jti == null || !filter.mightContain(jti)) {
+            return false;
+        }
+        return revokedTokenRepository.existsById(jti);
+    }
+
+    /**
+     * 토큰을 원래 만료 시각까지 폐기 목록에 등록합니다.
+     */
+    @Transactional
+    public void revoke(UUID jti, Instant expiresAt) {
+        if (jti == null || !expiresAt.isAfter(Instant.now())) {
+            return;
+        }
+        synchronized (filterLock) {
+            filter.put(jti);   // 커밋 전에 먼저 반영 – 오탐은 DB 확인으로 걸러짐
+            pending.add(jti);
+        }
+        revokedTokenRepository.save(RevokedToken.of(jti, LocalDateTime.ofInstant(expiresAt, ZoneId.systemDefault())));
+    }
+
+    /**
+     * 만료된 폐기 기록 정리 후 필터 재구성 (Bloom 필터는 삭제를 지원하지 않음)
+     */
+    @Scheduled(fixedDelayString = "${todo.jwt.sweep-interval:PT10M}",
+            initialDelayString = "${todo.jwt.sweep-interval:PT10M}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED) // 배치마다 개별 커밋
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int removed;
+        do {
+            removed = revokedTokenRepository.deleteExpired(now, SWEEP_BATCH_SIZE);
+            total += removed;
+        } while (removed == SWEEP_BATCH_SIZE);
+        if (total > 0) {
+            log.info("Swept {} expired revoked tokens", total);
+        }
+        rebuild();
+    }
+
+    private void rebuild() {
+        Set<UUID> carried;
+        synchronized (filterLock) {
+            carried = pending;
+            pending = ConcurrentHashMap.newKeySet();
+        }
+
+        JtiBloomFilter rebuilt = new JtiBloomFilter(expectedRevocations, falsePositiveRate);
+        revokedTokenRepository.findActiveJtis(LocalDateTime.now()).forEach(rebuilt::put);
+
+        synchronized (filterLock) {
+            // 스냅샷에 없을 수 있는 최근 폐기(재구성 전·중) 재적용 – carried 는 다음 재구성에서 다시 넣지 않음
+            carried.forEach(rebuilt::put);
+            pending.forEach(rebuilt::put);
+            this.filter = rebuilt;
+        }
+    }
+}
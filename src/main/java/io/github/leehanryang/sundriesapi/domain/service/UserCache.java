@@ -0,0 +1,51 @@
+package io.github.leehanryang.sundriesapi.domain.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.leehanryang.sundriesapi.domain.dto.UserDTO;
+import io.github.leehanryang.sundriesapi.domain.event.UserChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 회원 정보 스냅샷 캐시 (UUID → UserDTO)
+ * <p>
+ * - 크기와 TTL 이 제한되며, 변경·삭제는 커밋 이후 UserChangedEvent 로 즉시 무효화합니다.
+ * - TTL 은 이벤트를 거치지 않은 변경(직접 SQL 등)이 남아 있을 수 있는 최대 시간입니다.
+ * - 조회 실패(예외)는 캐시하지 않습니다.
+ */
+@Component
+public class UserCache {
+
+    private final Cache<UUID, UserDTO> users;
+
+    public UserCache(@Value("${todo.user-cache.max-size:10000}") long maxSize,
+                     @Value("${todo.user-cache.ttl:PT5M}") Duration ttl,
+                     MeterRegistry meterRegistry) {
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users");
+    }
+
+    /**
+     * 캐시에 없으면 loader 로 조회해 저장 (같은 키 동시 조회는 한 번만 실행)
+     */
+    public UserDTO get(UUID userId, Function<UUID, UserDTO> loader) {
+        return users.get(userId, loader);
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        users.invalidate(event.userId());
+    }
+}
@@ -7,15 +7,19 @@ import io.github.leehanryang.sundriesapi.common.exception.ApiException;
 import io.github.leehanryang.sundriesapi.domain.dto.SignUpDTO;
 import io.github.leehanryang.sundriesapi.domain.dto.UserDTO;
 import io.github.leehanryang.sundriesapi.domain.entity.User;
+import io.github.leehanryang.sundriesapi.domain.event.UserChangedEvent;
 import io.github.leehanryang.sundriesapi.domain.repository.UserRepository;
+import io.micrometer.core.annotation.Timed;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.UUID;
 
+@Timed(value = "app.service", histogram = true)
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -23,6 +27,8 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public UserDTO register(SignUpDTO dto) {
@@ -44,9 +50,10 @@ public class UserService {
         return userRepository.save(user).toDto();
     }
 
+    /* 캐시된 스냅샷 우선 – 없을 때만 조회 */
     public UserDTO getUser(UUID id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new ApiException(ErrorCodeEnum.USER_NOT_FOUND)).toDto();
+        return userCache.get(id, userId -> userRepository.findById(userId)
+                .orElseThrow(() -> new ApiException(ErrorCodeEnum.USER_NOT_FOUND)).toDto());
     }
 
     @Transactional
@@ -77,7 +84,9 @@ public class UserService {
             user.changePassword(encoded);
         }
 
-        return userRepository.save(user).toDto();
+        UserDTO updated = userRepository.save(user).toDto();
+        eventPublisher.publishEvent(new UserChangedEvent(id));
+        return updated;
     }
 
     @Transactional
@@ -86,5 +95,6 @@ public class UserService {
                 .orElseThrow(() -> new ApiException(ErrorCodeEnum.USER_NOT_FOUND));
 
         userRepository.delete(user);
+        eventPublisher.publishEvent(new UserChangedEvent(id));
     }
 }
@@ -2,12 +2,15 @@ package io.github.leehanryang.sundriesapi.api.contoller;
 
 import io.github.leehanryang.sundriesapi.domain.dto.LoginDTO;
 import io.github.leehanryang.sundriesapi.domain.dto.SignUpDTO;
+import io.github.leehanryang.sundriesapi.domain.dto.TokenDTO;
 import io.github.leehanryang.sundriesapi.surpport.IntegrationTestSupport;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -66,4 +69,120 @@ class AuthFlowTest extends IntegrationTestSupport {
                 .isNotBlank()
                 .matches("^Bearer\\s+[\\w-]+\\.[\\w-]+\\.[\\w-]+$");
     }
+
+    @Test
+    @DisplayName("로그인(읽기 후 쓰기) 이후의 쓰기 요청도 writer 로 반영")
+    public void login_then_write_reachesWriter() throws Exception {
+        // Given: 가입된 사용자
+        mockMvc.perform(post("/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(SignUpDTO.builder()
+                                .email("writer@test.com")
+                                .username("writerUser")
+                                .password(TEST_PASSWORD)
+                                .build())))
+                .andExpect(status().isCreated());
+
+        // When: 로그인 – 읽기 전용 사용자 조회 뒤 같은 요청에서 리프레시 토큰 저장
+        TokenDTO login = objectMapper.readValue(mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new LoginDTO(null, null, "writer@test.com", TEST_PASSWORD, null))))
+                // Then: 200 OK, 리프레시 토큰 발급(쓰기 성공)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refresh_token").exists())
+                .andReturn().getResponse().getContentAsString(), TokenDTO.class);
+
+        // When: 발급받은 토큰으로 Todo 생성
+        String bearer = "Bearer " + login.getAccess_token();
+        String location = mockMvc.perform(post("/todos")
+                        .header(HttpHeaders.AUTHORIZATION, bearer)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\":\"after login\",\"completed\":false}"))
+                // Then: 201 Created, 이후 조회로 확인
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getHeader(HttpHeaders.LOCATION);
+        mockMvc.perform(get(location).header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("after login"));
+
+        // Then: 저장된 리프레시 토큰으로 회전(쓰기) 가능
+        mockMvc.perform(post("/users/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new TokenDTO(null, login.getRefresh_token()))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("비밀번호가 틀리면 401 LOGIN_FAILED")
+    public void login_wrongPassword() throws Exception {
+        // Given: 가입된 사용자
+        SignUpDTO signUp = SignUpDTO.builder()
+                .email("wrongpw@test.com")
+                .username("wrongPw")
+                .password(TEST_PASSWORD)
+                .build();
+        mockMvc.perform(post("/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(signUp)))
+                .andExpect(status().isCreated());
+
+        // When: 잘못된 비밀번호로 로그인
+        LoginDTO login = new LoginDTO(
+                null, null, "wrongpw@test.com", "wrong-password", null
+        );
+
+        // Then: 401 Unauthorized
+        mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(login)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 회전·재사용 차단 및 로그아웃 시 액세스 토큰 폐기")
+    public void refresh_rotation_and_logout() throws Exception {
+        // Given: 가입 후 로그인한 사용자
+        mockMvc.perform(post("/users/signup")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(SignUpDTO.builder()
+                                .email("refresh@test.com")
+                                .username("refresher")
+                                .password(TEST_PASSWORD)
+                                .build())))
+                .andExpect(status().isCreated());
+        TokenDTO login = objectMapper.readValue(mockMvc.perform(post("/users/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new LoginDTO(null, null, "refresh@test.com", TEST_PASSWORD, null))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.refresh_token").exists())
+                .andReturn().getResponse().getContentAsString(), TokenDTO.class);
+
+        // When: 리프레시 토큰으로 갱신
+        TokenDTO rotated = objectMapper.readValue(mockMvc.perform(post("/users/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new TokenDTO(null, login.getRefresh_token()))))
+                // Then: 새 토큰 쌍 발급
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(), TokenDTO.class);
+        assertThat(rotated.getRefresh_token()).isNotEqualTo(login.getRefresh_token());
+
+        // When & Then: 이미 회전된 토큰 재사용 → 401, 같은 계열의 새 토큰도 폐기됨
+        mockMvc.perform(post("/users/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new TokenDTO(null, login.getRefresh_token()))))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(post("/users/token/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toJson(new TokenDTO(null, rotated.getRefresh_token()))))
+                .andExpect(status().isUnauthorized());
+
+        // When: 로그아웃
+        String bearer = "Bearer " + rotated.getAccess_token();
+        mockMvc.perform(post("/users/logout").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isNoContent());
+
+        // Then: 폐기된 액세스 토큰으로는 인증 불가
+        mockMvc.perform(get("/users/me").header(HttpHeaders.AUTHORIZATION, bearer))
+                .andExpect(status().isUnauthorized());
+    }
 }
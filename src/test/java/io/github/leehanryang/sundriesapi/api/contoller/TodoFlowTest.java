@@ -2,19 +2,32 @@ package io.github.leehanryang.sundriesapi.api.contoller;
 
 import io.github.leehanryang.sundriesapi.domain.dto.LoginDTO;
 import io.github.leehanryang.sundriesapi.domain.dto.SignUpDTO;
+import io.github.leehanryang.sundriesapi.domain.dto.TodoBatchDTO;
 import io.github.leehanryang.sundriesapi.domain.dto.TodoDTO;
+import io.github.leehanryang.sundriesapi.domain.entity.Todo;
+import io.github.leehanryang.sundriesapi.domain.repository.TodoRepository;
 import io.github.leehanryang.sundriesapi.surpport.IntegrationTestSupport;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.startsWith;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -26,6 +39,12 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 class TodoFlowTest extends IntegrationTestSupport {
 
+    @Autowired
+    private TodoRepository todoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
     private String jwt;
     private UUID todoId;
     private String username;
@@ -117,9 +136,342 @@ class TodoFlowTest extends IntegrationTestSupport {
         assertThat(list).isNotEmpty();
     }
 
+    @Test
+    @DisplayName("Todo 목록 캐시 - 생성·수정·삭제 직후 조회에 반영")
+    void listTodos_cacheInvalidatedOnWrite() throws Exception {
+        // Given: 최초 조회로 캐시 적재
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        // When & Then: 생성 후 조회
+        TodoDTO req = TodoDTO.builder().title("캐시 확인").completed(false).build();
+        mockMvc.perform(post("/todos")
+                        .header("Authorization", jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[?(@.title == '캐시 확인')]").exists());
+
+        // When & Then: 수정 후 조회
+        TodoDTO update = TodoDTO.builder().title("기본 Todo 수정").completed(true).build();
+        mockMvc.perform(put("/todos/{id}", todoId)
+                        .header("Authorization", jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(update)))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.id == '" + todoId + "')].title").value("기본 Todo 수정"));
+
+        // When & Then: 삭제 후 조회
+        mockMvc.perform(delete("/todos/{id}", todoId)
+                        .header("Authorization", jwt))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("Todo 목록·검색 필드 선택 - 요청한 필드만 응답, 알 수 없는 필드는 400")
+    void listTodos_sparseFields() throws Exception {
+        // When & Then: 목록에서 id,title,completed 만 요청
+        mockMvc.perform(get("/todos")
+                        .param("fields", "id,title,completed")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(todoId.toString()))
+                .andExpect(jsonPath("$[0].title").value("기본 Todo"))
+                .andExpect(jsonPath("$[0].completed").value(false))
+                .andExpect(jsonPath("$[0].description").doesNotExist())
+                .andExpect(jsonPath("$[0].createdAt").doesNotExist());
+
+        // When & Then: 검색에서 id,title 만 요청
+        mockMvc.perform(get("/todos/search")
+                        .param("keyword", "기본")
+                        .param("fields", "id,title")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(todoId.toString()))
+                .andExpect(jsonPath("$[0].title").value("기본 Todo"))
+                .andExpect(jsonPath("$[0].completed").doesNotExist());
+
+        // When & Then: 알 수 없는 필드
+        mockMvc.perform(get("/todos")
+                        .param("fields", "id,password")
+                        .header("Authorization", jwt))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Todo 내보내기 - NDJSON 은 한 줄에 한 건, CSV 는 헤더 + 행")
+    void exportTodos() throws Exception {
+        // When: NDJSON(기본) 내보내기
+        String ndjson = mockMvc.perform(get("/todos/export")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("application/x-ndjson")))
+                .andExpect(header().string("Content-Disposition", containsString("todos.ndjson")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // Then: 기본 Todo 한 줄
+        String[] lines = ndjson.split("\n");
+        assertThat(lines).hasSize(1);
+        assertThat(objectMapper.readTree(lines[0]).get("id").asText()).isEqualTo(todoId.toString());
+
+        // When: CSV 내보내기
+        String csv = mockMvc.perform(get("/todos/export")
+                        .param("format", "csv")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", startsWith("text/csv")))
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+
+        // Then: 헤더 + 기본 Todo 한 행
+        String[] rows = csv.split("\r\n");
+        assertThat(rows).hasSize(2);
+        assertThat(rows[0]).isEqualTo("id,title,description,completed,createdAt,updatedAt");
+        assertThat(rows[1]).startsWith(todoId + ",기본 Todo,기본값,false,");
+
+        // When & Then: 지원하지 않는 형식
+        mockMvc.perform(get("/todos/export")
+                        .param("format", "xml")
+                        .header("Authorization", jwt))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Todo 가져오기 - 유효한 행만 저장하고 잘못된 행은 행 번호와 함께 보고")
+    void importTodos() throws Exception {
+        // Given: 정상 2건, 제목 누락 1건, JSON 오류 1건
+        String ndjson = """
+                {"title":"가져오기 1","description":"첫 번째"}
+                {"title":"가져오기 2","completed":true}
+                {"description":"제목 없음"}
+                {"title":
+                """;
+
+        // When & Then: NDJSON 가져오기
+        mockMvc.perform(post("/todos/import")
+                        .header("Authorization", jwt)
+                        .contentType("application/x-ndjson")
+                        .content(ndjson.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(2))
+                .andExpect(jsonPath("$.errors[0].row").value(3))
+                .andExpect(jsonPath("$.errors[1].row").value(4));
+
+        // Given: 따옴표 안에 쉼표·줄바꿈이 있는 CSV
+        String csv = "title,description,completed\r\n"
+                + "\"CSV, 가져오기\",\"여러\n줄\",false\r\n";
+
+        // When & Then: CSV 가져오기
+        mockMvc.perform(post("/todos/import")
+                        .param("format", "csv")
+                        .header("Authorization", jwt)
+                        .contentType("text/csv")
+                        .content(csv.getBytes(StandardCharsets.UTF_8)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.failed").value(0));
+
+        // Then: 기본 Todo + 가져온 3건
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[?(@.title == 'CSV, 가져오기')].description").value("여러\n줄"));
+    }
+
+    @Test
+    @DisplayName("Todo 목록 조건부 조회 - 변경 없으면 304, 변경 후 200")
+    void listTodos_conditional() throws Exception {
+        // Given: 최초 조회로 ETag 확보
+        String etag = mockMvc.perform(get("/todos")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).isNotBlank();
+
+        // When & Then: 같은 ETag 로 재조회 → 304
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", jwt)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // When: Todo 삭제 후 같은 ETag 로 재조회
+        mockMvc.perform(delete("/todos/{id}", todoId)
+                        .header("Authorization", jwt))
+                .andExpect(status().isNoContent());
+
+        // Then: 변경되었으므로 200
+        mockMvc.perform(get("/todos")
+                        .header("Authorization", jwt)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Todo 단건 조건부 조회 - 존재·소유권 확인 후 행의 수정 시각으로 304 판단")
+    void getTodo_conditional() throws Exception {
+        // Given: 목록 ETag 와 단건 ETag 확보
+        String listEtag = mockMvc.perform(get("/todos")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        String etag = mockMvc.perform(get("/todos/{id}", todoId)
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(etag).isNotBlank().isNotEqualTo(listEtag);
+
+        // When & Then: 같은 ETag 로 재조회 → 304
+        mockMvc.perform(get("/todos/{id}", todoId)
+                        .header("Authorization", jwt)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        // When & Then: 없는 Todo 에 목록 ETag 전송 → 304 가 아닌 404
+        mockMvc.perform(get("/todos/{id}", UUID.randomUUID())
+                        .header("Authorization", jwt)
+                        .header("If-None-Match", listEtag))
+                .andExpect(status().isNotFound());
+
+        // When: 수정 후 같은 ETag 로 재조회
+        TodoDTO updateReq = TodoDTO.builder()
+                .title("조건부 수정")
+                .completed(false)
+                .build();
+        mockMvc.perform(put("/todos/{id}", todoId)
+                        .header("Authorization", jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(updateReq)))
+                .andExpect(status().isOk());
+
+        // Then: 수정 시각이 바뀌었으므로 200
+        mockMvc.perform(get("/todos/{id}", todoId)
+                        .header("Authorization", jwt)
+                        .header("If-None-Match", etag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("조건부 수정"));
+    }
+
+    @Test
+    @DisplayName("Todo 델타 동기화 - 삭제 기록 포함")
+    void changesSince() throws Exception {
+        // Given: 초기 동기화로 토큰 확보
+        String initial = mockMvc.perform(get("/todos/changes")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.upserted[0].id").value(todoId.toString()))
+                .andReturn().getResponse().getContentAsString();
+        String token = objectMapper.readTree(initial).get("nextToken").asText();
+
+        // When: 기본 Todo 삭제
+        mockMvc.perform(delete("/todos/{id}", todoId)
+                        .header("Authorization", jwt))
+                .andExpect(status().isNoContent());
+
+        // Then: 변경분에 삭제 ID 포함
+        mockMvc.perform(get("/todos/changes")
+                        .param("since", token)
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted[0]").value(todoId.toString()));
+    }
+
+    @Test
+    @DisplayName("Todo 변경 스트림 - 생성 이벤트 수신")
+    void streamTodos() throws Exception {
+        // Given: SSE 구독
+        MvcResult stream = mockMvc.perform(get("/todos/stream")
+                        .header("Authorization", jwt))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When: Todo 생성
+        TodoDTO req = TodoDTO.builder()
+                .title("스트림 Todo")
+                .completed(false)
+                .build();
+        mockMvc.perform(post("/todos")
+                        .header("Authorization", jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isCreated());
+
+        // Then: created 이벤트 전달 (비동기 전송 대기)
+        String content = "";
+        for (int i = 0; i < 50 && !content.contains("event:created"); i++) {
+            Thread.sleep(100);
+            content = stream.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        }
+        assertThat(content).contains("event:created").contains("스트림 Todo");
+    }
+
+    @Test
+    @DisplayName("Todo 커서 페이지 조회")
+    void pageTodos() throws Exception {
+        // Given: 기본 Todo 포함 총 3건
+        for (int i = 0; i < 2; i++) {
+            TodoDTO req = TodoDTO.builder()
+                    .title("페이지 " + i)
+                    .completed(false)
+                    .build();
+            mockMvc.perform(post("/todos")
+                            .header("Authorization", jwt)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(objectMapper.writeValueAsString(req)))
+                    .andExpect(status().isCreated());
+        }
+
+        // When: size=2 로 첫 페이지 요청
+        String first = mockMvc.perform(get("/todos/page")
+                        .param("size", "2")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString();
+        String cursor = objectMapper.readTree(first).get("nextCursor").asText();
+
+        // Then: 다음 커서로 남은 1건 조회, 마지막 페이지
+        mockMvc.perform(get("/todos/page")
+                        .param("size", "2")
+                        .param("cursor", cursor)
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 페이지 조회 시 400")
+    void pageTodos_invalidCursor() throws Exception {
+        mockMvc.perform(get("/todos/page")
+                        .param("cursor", "not-a-cursor")
+                        .header("Authorization", jwt))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Todo 수정")
     void updateTodo() throws Exception {
+        // Given: 단건 조회로 JSON 캐시 적재
+        mockMvc.perform(get("/todos/{id}", todoId)
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("기본 Todo"));
+
         // Given: 업데이트 요청 DTO
         TodoDTO updateReq = TodoDTO.builder()
                 .id(todoId)
@@ -136,6 +488,45 @@ class TodoFlowTest extends IntegrationTestSupport {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.title").value("JUnit 통합 테스트"))
                 .andExpect(jsonPath("$.completed").value(true));
+
+        // Then: 단건 조회에 수정 내용 반영 (수정 시각이 바뀌어 새 캐시 키)
+        mockMvc.perform(get("/todos/{id}", todoId)
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("JUnit 통합 테스트"))
+                .andExpect(jsonPath("$.completed").value(true));
+    }
+
+    @Test
+    @DisplayName("Todo 수정 - 같은 트랜잭션에서 먼저 읽은 Todo 가 있어도 수정 후 값 반환")
+    void updateTodo_returnsNewValuesOverManagedEntity() throws Exception {
+        UUID userId = UUID.fromString(objectMapper.readTree(mockMvc.perform(get("/users/me")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString()).get("id").asText());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            // Given: 수정 전 값으로 영속성 컨텍스트에 올라온 Todo
+            Todo loaded = todoRepository.findByIdAndUserId(todoId, userId).orElseThrow();
+            assertThat(loaded.getTitle()).isEqualTo("기본 Todo");
+
+            // When: 같은 트랜잭션에서 UPDATE … RETURNING
+            TodoDTO updated = todoRepository.updateByIdAndUserId(todoId, userId,
+                    "수정된 제목", "수정된 내용", true, LocalDateTime.now()).orElseThrow();
+
+            // Then: 반환값과 이후 조회 모두 수정 후 값
+            assertThat(updated.getTitle()).isEqualTo("수정된 제목");
+            assertThat(updated.isCompleted()).isTrue();
+            assertThat(todoRepository.findByIdAndUserId(todoId, userId).orElseThrow().getTitle())
+                    .isEqualTo("수정된 제목");
+        });
+
+        // Then: API 응답에도 반영
+        mockMvc.perform(get("/todos/{id}", todoId)
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.title").value("수정된 제목"))
+                .andExpect(jsonPath("$.completed").value(true));
     }
 
     @Test
@@ -151,6 +542,68 @@ class TodoFlowTest extends IntegrationTestSupport {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("Todo 일괄 처리 - 생성·수정·삭제")
+    void batchTodos() throws Exception {
+        // Given: 일괄 생성 2건 → 생성된 ID 확보
+        TodoBatchDTO createReq = new TodoBatchDTO(List.of(
+                new TodoBatchDTO.Operation(TodoBatchDTO.Type.CREATE, null, "일괄 1", null, false),
+                new TodoBatchDTO.Operation(TodoBatchDTO.Type.CREATE, null, "일괄 2", null, false)
+        ));
+        String body = mockMvc.perform(post("/todos/batch")
+                        .header("Authorization", jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createReq)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created.length()").value(2))
+                .andReturn().getResponse().getContentAsString();
+        UUID createdId = UUID.fromString(objectMapper.readTree(body).get("created").get(0).get("id").asText());
+
+        // When: 기본 Todo 수정 + 생성된 Todo 삭제
+        TodoBatchDTO mixedReq = new TodoBatchDTO(List.of(
+                new TodoBatchDTO.Operation(TodoBatchDTO.Type.UPDATE, todoId, "일괄 수정", "내용", true),
+                new TodoBatchDTO.Operation(TodoBatchDTO.Type.DELETE, createdId, null, null, false)
+        ));
+        mockMvc.perform(post("/todos/batch")
+                        .header("Authorization", jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(mixedReq)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated[0].title").value("일괄 수정"))
+                .andExpect(jsonPath("$.deleted[0]").value(createdId.toString()));
+
+        // Then: 수정·삭제 반영 확인
+        mockMvc.perform(get("/todos/{id}", todoId)
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completed").value(true));
+        mockMvc.perform(get("/todos/{id}", createdId)
+                        .header("Authorization", jwt))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Todo 일괄 처리 - 없는 Todo 포함 시 404, 전체 롤백")
+    void batchTodos_notFoundRollsBack() throws Exception {
+        // Given: 정상 생성 + 존재하지 않는 Todo 삭제
+        TodoBatchDTO req = new TodoBatchDTO(List.of(
+                new TodoBatchDTO.Operation(TodoBatchDTO.Type.CREATE, null, "롤백 대상", null, false),
+                new TodoBatchDTO.Operation(TodoBatchDTO.Type.DELETE, UUID.randomUUID(), null, null, false)
+        ));
+
+        // When & Then: 404, 생성도 반영되지 않음
+        mockMvc.perform(post("/todos/batch")
+                        .header("Authorization", jwt)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(req)))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/todos/search")
+                        .param("keyword", "롤백")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
     @Test
     @DisplayName("Todo 검색")
     void searchTodos() throws Exception {
@@ -162,6 +615,24 @@ class TodoFlowTest extends IntegrationTestSupport {
                 .andExpect(jsonPath("$[0].title").value("기본 Todo"));
     }
 
+    @Test
+    @DisplayName("Todo 검색 - 내용 및 접두어 일치")
+    void searchTodos_descriptionAndPrefix() throws Exception {
+        // When & Then: 내용(description)에만 있는 단어로 검색
+        mockMvc.perform(get("/todos/search")
+                        .param("keyword", "기본값")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(todoId.toString()));
+
+        // When & Then: 단어 접두어로 검색
+        mockMvc.perform(get("/todos/search")
+                        .param("keyword", "Tod")
+                        .header("Authorization", jwt))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].title").value("기본 Todo"));
+    }
+
     @Test
     @DisplayName("다른 사용자 Todo 조회/수정/삭제 시 접근 거부")
     void otherUserCannotAccessTodo() throws Exception {
@@ -192,6 +663,16 @@ class TodoFlowTest extends IntegrationTestSupport {
                         .header("Authorization", otherJwt))
                 .andExpect(status().isForbidden());
 
+        // 자신의 목록 ETag 를 보내도 304 가 아닌 403
+        String otherListEtag = mockMvc.perform(get("/todos")
+                        .header("Authorization", otherJwt))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        mockMvc.perform(get("/todos/{id}", todoId)
+                        .header("Authorization", otherJwt)
+                        .header("If-None-Match", otherListEtag))
+                .andExpect(status().isForbidden());
+
         TodoDTO updateReq = TodoDTO.builder()
                 .title("Fail")
                 .description("Fail")
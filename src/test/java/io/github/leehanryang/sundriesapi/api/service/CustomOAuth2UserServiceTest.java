@@ -2,6 +2,7 @@ package io.github.leehanryang.sundriesapi.api.service;
 
 import io.github.leehanryang.sundriesapi.common.enums.OAuth2Enum;
 import io.github.leehanryang.sundriesapi.common.enums.RoleEnum;
+import io.github.leehanryang.sundriesapi.common.security.oauth2.CustomOAuth2User;
 import io.github.leehanryang.sundriesapi.common.security.oauth2.OAuth2Util;
 import io.github.leehanryang.sundriesapi.domain.dto.UserDTO;
 import io.github.leehanryang.sundriesapi.domain.entity.SocialAccount;
@@ -16,7 +17,6 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.client.registration.ClientRegistration;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -30,14 +30,13 @@ import static org.mockito.Mockito.*;
 /**
  * CustomOAuth2UserService 단위 테스트
  * <p>
- * - loadUser(): OAuth2User 반환 및 processOAuth2User 호출 검증
+ * - loadUser(): 사용자 1회 조회 후 CustomOAuth2User 반환 검증
  * - processOAuth2User(): 기존 소셜 계정 존재, 이메일 사용자 존재, 신규 사용자 분기 검증
  */
 class CustomOAuth2UserServiceTest {
 
     private final String username = "oauthUser";
     private final String email = "oauth@test.com";
-    private final String encodedPassword = "encoded1234";
     private final String provider = "google";
     private final String providerId = "abc123";
 
@@ -46,8 +45,6 @@ class CustomOAuth2UserServiceTest {
     @Mock
     OAuth2Util oAuth2Util;
     @Mock
-    PasswordEncoder passwordEncoder;
-    @Mock
     OAuth2UserRequest userRequest;
     @Mock
     OAuth2User mockOAuth2User;
@@ -69,7 +66,8 @@ class CustomOAuth2UserServiceTest {
         // Given: OAuth2UserRequest 및 프로바이더 정보 설정
         String username = "google_user";
 
-        User user = User.create(username, encodedPassword, email);
+        User user = User.create(username, User.NO_PASSWORD, email);
+        user.addRole(RoleEnum.USER.getRole());
         when(userRepository.save(any())).thenReturn(user);
         Map<String, Object> attributes = Map.of("sub", providerId, "email", email);
         when(userRequest.getClientRegistration()).thenReturn(clientRegistration);
@@ -78,7 +76,6 @@ class CustomOAuth2UserServiceTest {
         when(oAuth2Util.extractEmail(provider, attributes)).thenReturn(email);
         when(oAuth2Util.extractUserName(provider)).thenReturn(username);
         when(oAuth2Util.getNameAttributeKey(provider)).thenReturn("sub");
-        when(passwordEncoder.encode(any())).thenReturn(encodedPassword);
         when(mockOAuth2User.getAttributes()).thenReturn(attributes);
         CustomOAuth2UserService spyService = spy(customOAuth2UserService);
         doReturn(mockOAuth2User).when(spyService).delegateLoadUser(userRequest);
@@ -86,8 +83,10 @@ class CustomOAuth2UserServiceTest {
         // When: loadUser 호출
         OAuth2User result = spyService.loadUser(userRequest);
 
-        // Then: processOAuth2User 호출 및 권한 검증
-        verify(spyService).processOAuth2User(username, email, encodedPassword, provider, providerId);
+        // Then: processOAuth2User 1회 호출, 조회된 사용자를 담은 OAuth2User 및 권한 검증
+        verify(spyService, times(1)).processOAuth2User(username, email, provider, providerId);
+        assertThat(result).isInstanceOf(CustomOAuth2User.class);
+        assertThat(((CustomOAuth2User) result).getUser().getEmail()).isEqualTo(email);
         assertThat(result.getAttributes()).isEqualTo(attributes);
         assertThat(result.getAuthorities())
                 .anyMatch(auth -> auth.getAuthority().equals(RoleEnum.USER.getRole()));
@@ -97,14 +96,14 @@ class CustomOAuth2UserServiceTest {
     @DisplayName("이미 등록된 소셜 계정이 있는 경우 기존 유저 반환")
     void existingSocialAccount() {
         // Given: 소셜 계정이 이미 존재하는 상황
-        User user = User.create(username, encodedPassword, email);
+        User user = User.create(username, User.NO_PASSWORD, email);
         SocialAccount socialAccount = SocialAccount.of(user, OAuth2Enum.GOOGLE, providerId);
         when(socialAccountRepository.findByProviderAndProviderId(OAuth2Enum.GOOGLE, providerId))
                 .thenReturn(Optional.of(socialAccount));
 
         // When: processOAuth2User 호출
         UserDTO result = customOAuth2UserService.processOAuth2User(
-                username, email, encodedPassword, provider, providerId);
+                username, email, provider, providerId);
 
         // Then: 기존 유저 반환, 저장 메서드 호출 없음
         AssertionsForClassTypes.assertThat(result.getEmail()).isEqualTo(email);
@@ -116,14 +115,14 @@ class CustomOAuth2UserServiceTest {
     @DisplayName("기존 이메일 유저가 있고 소셜 계정만 연결하는 경우")
     void existingEmailUser() {
         // Given: 이메일 기반 사용자만 존재
-        User user = User.create(username, encodedPassword, email);
+        User user = User.create(username, User.NO_PASSWORD, email);
         when(socialAccountRepository.findByProviderAndProviderId(OAuth2Enum.GOOGLE, providerId))
                 .thenReturn(Optional.empty());
         when(userRepository.findByEmail(email)).thenReturn(Optional.of(user));
 
         // When: processOAuth2User 호출
         UserDTO result = customOAuth2UserService.processOAuth2User(
-                username, email, encodedPassword, provider, providerId);
+                username, email, provider, providerId);
 
         // Then: 소셜 계정 저장만 호출, 사용자 저장은 미호출
         AssertionsForClassTypes.assertThat(result.getEmail()).isEqualTo(email);
@@ -138,12 +137,12 @@ class CustomOAuth2UserServiceTest {
         when(socialAccountRepository.findByProviderAndProviderId(OAuth2Enum.GOOGLE, providerId))
                 .thenReturn(Optional.empty());
         when(userRepository.findByEmail(email)).thenReturn(Optional.empty());
-        User savedUser = User.create(username, encodedPassword, email);
+        User savedUser = User.create(username, User.NO_PASSWORD, email);
         when(userRepository.save(any())).thenReturn(savedUser);
 
         // When: processOAuth2User 호출
         UserDTO result = customOAuth2UserService.processOAuth2User(
-                username, email, encodedPassword, provider, providerId);
+                username, email, provider, providerId);
 
         // Then: 사용자 및 소셜 계정 저장 모두 호출
         AssertionsForClassTypes.assertThat(result.getEmail()).isEqualTo(email);
@@ -6,16 +6,22 @@ import io.github.leehanryang.sundriesapi.common.exception.ApiException;
 import io.github.leehanryang.sundriesapi.domain.dto.SignUpDTO;
 import io.github.leehanryang.sundriesapi.domain.dto.UserDTO;
 import io.github.leehanryang.sundriesapi.domain.entity.User;
+import io.github.leehanryang.sundriesapi.domain.event.UserChangedEvent;
 import io.github.leehanryang.sundriesapi.domain.repository.UserRepository;
+import io.github.leehanryang.sundriesapi.domain.service.UserCache;
 import io.github.leehanryang.sundriesapi.domain.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -38,6 +44,12 @@ class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private UserCache userCache = new UserCache(100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+
     @InjectMocks
     private UserService userService;
 
@@ -115,6 +127,28 @@ class UserServiceTest {
         assertThat(result.getEmail()).isEqualTo(TEST_EMAIL);
     }
 
+    @Test
+    @DisplayName("회원 조회 캐시 - 두 번째 조회는 DB 생략, 변경 이벤트 후 다시 조회")
+    void getUser_cached() {
+        // Given: 존재하는 사용자
+        User user = User.create(TEST_USER, ENCODED_PASSWORD, TEST_EMAIL);
+        when(userRepository.findById(USER_ID)).thenReturn(Optional.of(user));
+
+        // When: 두 번 조회
+        userService.getUser(USER_ID);
+        userService.getUser(USER_ID);
+
+        // Then: 조회는 한 번
+        verify(userRepository, times(1)).findById(USER_ID);
+
+        // When: 변경 이벤트(커밋 이후) 후 다시 조회
+        userCache.onUserChanged(new UserChangedEvent(USER_ID));
+        userService.getUser(USER_ID);
+
+        // Then: 다시 조회
+        verify(userRepository, times(2)).findById(USER_ID);
+    }
+
     @Test
     @DisplayName("회원 조회 실패")
     void getUser_notFound() {
@@ -189,8 +223,9 @@ class UserServiceTest {
         // When: deleteUser 호출
         userService.deleteUser(USER_ID);
 
-        // Then: delete 메서드 호출 검증
+        // Then: delete 메서드 호출 및 캐시 무효화 이벤트 발행 검증
         verify(userRepository).delete(user);
+        verify(eventPublisher).publishEvent(new UserChangedEvent(USER_ID));
     }
 
     @Test
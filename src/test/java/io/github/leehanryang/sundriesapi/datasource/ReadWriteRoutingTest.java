@@ -0,0 +1,70 @@
+package io.github.leehanryang.sundriesapi.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.github.leehanryang.sundriesapi.surpport.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * writer / 읽기 전용 풀 분리 구성 검증
+ * <p>
+ * - 컨텍스트가 두 풀과 라우팅 DataSource 를 함께 등록하는지
+ * - readOnly 트랜잭션은 query_only 풀로, 그 외는 writer 로 가는지
+ */
+class ReadWriteRoutingTest extends IntegrationTestSupport {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    @Qualifier("sqliteWriteDataSource")
+    private HikariDataSource writer;
+
+    @Autowired
+    @Qualifier("sqliteReadDataSource")
+    private HikariDataSource reader;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("기본 DataSource 는 라우팅 프록시, writer 는 단일 커넥션")
+    void contextWiresSplitPools() {
+        assertThat(dataSource).isInstanceOf(LazyConnectionDataSourceProxy.class);
+        assertThat(writer.getPoolName()).isEqualTo("sqlite-writer");
+        assertThat(writer.getMaximumPoolSize()).isEqualTo(1);
+        assertThat(reader.getPoolName()).isEqualTo("sqlite-reader");
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 query_only 읽기 풀로 라우팅")
+    void readOnlyTransaction_routesToReader() {
+        assertThat(queryOnlyFlag(true)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 writer 로 라우팅")
+    void writeTransaction_routesToWriter() {
+        assertThat(queryOnlyFlag(false)).isZero();
+    }
+
+    /* 트랜잭션에 묶인 커넥션의 PRAGMA query_only 값 (읽기 풀 = 1) */
+    private Integer queryOnlyFlag(boolean readOnly) {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(readOnly);
+        return tx.execute(status -> jdbcTemplate.queryForObject("PRAGMA query_only", Integer.class));
+    }
+}
@@ -0,0 +1,53 @@
+package io.github.leehanryang.sundriesapi.jpa;
+
+import io.github.leehanryang.sundriesapi.common.jpa.UuidV7Generator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * UuidV7Generator 단위 테스트
+ * <p>
+ * - 버전·variant 비트 및 시각 prefix 검증
+ * - 연속 생성 시 단조 증가 검증
+ */
+class UuidV7GeneratorTest {
+
+    @Test
+    @DisplayName("UUIDv7 형식 - version 7, IETF variant, 상위 48비트 = 현재 ms")
+    void next_format() {
+        // Given: 생성 전후 시각
+        long before = System.currentTimeMillis();
+
+        // When: UUID 생성
+        UUID id = UuidV7Generator.next();
+        long after = System.currentTimeMillis();
+
+        // Then: 버전·variant·타임스탬프 검증
+        assertThat(id.version()).isEqualTo(7);
+        assertThat(id.variant()).isEqualTo(2);
+        long millis = id.getMostSignificantBits() >>> 16;
+        // (같은 ms 에 seq 가 소진되면 논리 시각이 조금 앞설 수 있음)
+        assertThat(millis).isBetween(before, after + 1_000);
+    }
+
+    @Test
+    @DisplayName("연속 생성 시 바이트 순서(BINARY(16) 정렬)로 단조 증가")
+    void next_monotonic() {
+        // Given: 직전 값
+        UUID prev = UuidV7Generator.next();
+
+        for (int i = 0; i < 100_000; i++) {
+            // When: 다음 값 생성
+            UUID next = UuidV7Generator.next();
+
+            // Then: 상위 64비트(부호 없는 비교)가 증가
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), prev.getMostSignificantBits()))
+                    .isPositive();
+            prev = next;
+        }
+    }
+}
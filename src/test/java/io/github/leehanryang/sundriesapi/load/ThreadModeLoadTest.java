@@ -0,0 +1,163 @@
+package io.github.leehanryang.sundriesapi.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.leehanryang.sundriesapi.Application;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 요청 처리 부하 비교
+ * <p>
+ * - 각 모드로 애플리케이션을 기동하고 동일한 부하(GET /todos)를 가한 뒤 처리량·p99 를 출력합니다.
+ * - 실행: ./gradlew loadTest (일반 test 태스크에서는 제외)
+ */
+@Tag("load")
+class ThreadModeLoadTest {
+
+    private static final int TODOS_PER_USER = 50;
+    private static final int CONCURRENCY = 500;
+    private static final int REQUESTS = 10_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @Test
+    @DisplayName("가상 스레드 모드와 플랫폼 스레드 모드의 처리량 비교")
+    void compareThreadModes() throws Exception {
+        // Given & When: 두 모드로 각각 부하 실행
+        Result platform = run(false);
+        Result virtual = run(true);
+
+        // Then: 결과 출력 및 오류 없음 검증
+        System.out.printf("%n%-10s %12s %10s %10s%n", "mode", "req/s", "p50(ms)", "p99(ms)");
+        System.out.println(platform.format("platform"));
+        System.out.println(virtual.format("virtual"));
+
+        assertThat(platform.errors()).isZero();
+        assertThat(virtual.errors()).isZero();
+    }
+
+    private Result run(boolean virtualThreads) throws Exception {
+        String dbName = "loaddb_" + UUID.randomUUID().toString().substring(0, 8);
+        try (ConfigurableApplicationContext ctx = new SpringApplicationBuilder(Application.class)
+                .properties(Map.of(
+                        "server.port", "0",
+                        "management.server.port", "0",
+                        "server.tomcat.threads.max", "200",
+                        "spring.threads.virtual.enabled", String.valueOf(virtualThreads),
+                        "spring.datasource.url", "jdbc:sqlite:file:" + dbName + "?mode=memory&cache=shared",
+                        "spring.datasource.driver-class-name", "org.sqlite.JDBC",
+                        "logging.level.root", "WARN"))
+                .run()) {
+
+            String baseUrl = "http://localhost:" + ctx.getEnvironment().getProperty("local.server.port");
+            String jwt = "Bearer " + signUpAndLogin(baseUrl);
+            for (int i = 0; i < TODOS_PER_USER; i++) {
+                send(post(baseUrl + "/todos", jwt, Map.of("title", "load " + i, "description", "부하 테스트")));
+            }
+
+            HttpRequest list = HttpRequest.newBuilder(URI.create(baseUrl + "/todos"))
+                    .header("Authorization", jwt)
+                    .GET()
+                    .build();
+
+            // 워밍업
+            for (int i = 0; i < 200; i++) {
+                send(list);
+            }
+
+            long[] latencies = new long[REQUESTS];
+            AtomicInteger next = new AtomicInteger();
+            AtomicInteger errors = new AtomicInteger();
+            long start = System.nanoTime();
+            try (ExecutorService pool = Executors.newVirtualThreadPerTaskExecutor()) {
+                List<Future<?>> workers = new ArrayList<>();
+                for (int w = 0; w < CONCURRENCY; w++) {
+                    workers.add(pool.submit(() -> {
+                        int i;
+                        while ((i = next.getAndIncrement()) < REQUESTS) {
+                            long t0 = System.nanoTime();
+                            try {
+                                if (send(list) != 200) {
+                                    errors.incrementAndGet();
+                                }
+                            } catch (Exception e) {
+                                errors.incrementAndGet();
+                            }
+                            latencies[i] = System.nanoTime() - t0;
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<?> f : workers) {
+                    f.get();
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            return Result.of(latencies, elapsed, errors.get());
+        }
+    }
+
+    private String signUpAndLogin(String baseUrl) throws Exception {
+        String rand = UUID.randomUUID().toString().substring(0, 8);
+        String email = "load+" + rand + "@test.com";
+        send(post(baseUrl + "/users/signup", null,
+                Map.of("username", "load" + rand, "email", email, "password", "password")));
+        HttpResponse<String> res = client.send(
+                post(baseUrl + "/users/login", null, Map.of("email", email, "password", "password")),
+                HttpResponse.BodyHandlers.ofString());
+        return objectMapper.readTree(res.body()).get("access_token").asText();
+    }
+
+    private HttpRequest post(String url, String jwt, Map<String, String> body) throws Exception {
+        HttpRequest.Builder b = HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        if (jwt != null) {
+            b.header("Authorization", jwt);
+        }
+        return b.build();
+    }
+
+    private int send(HttpRequest req) throws Exception {
+        return client.send(req, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private record Result(double throughput, double p50Millis, double p99Millis, int errors) {
+
+        static Result of(long[] latencies, long elapsedNanos, int errors) {
+            long[] sorted = latencies.clone();
+            Arrays.sort(sorted);
+            return new Result(
+                    sorted.length / (elapsedNanos / 1e9),
+                    sorted[(int) (sorted.length * 0.50)] / 1e6,
+                    sorted[(int) (sorted.length * 0.99)] / 1e6,
+                    errors);
+        }
+
+        String format(String mode) {
+            return String.format("%-10s %12.1f %10.2f %10.2f", mode, throughput, p50Millis, p99Millis);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package io.github.leehanryang.sundriesapi.security.jwt;
+
+import io.github.leehanryang.sundriesapi.common.enums.RoleEnum;
+import io.github.leehanryang.sundriesapi.common.security.jwt.JwtUtil;
+import io.github.leehanryang.sundriesapi.common.security.principal.CustomUserPrincipal;
+import io.github.leehanryang.sundriesapi.common.security.principal.RoleAuthorities;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JwtUtil 단위 테스트
+ * <p>
+ * - authenticate(): 1회 파싱 검증, 검증 결과 캐시 및 권한 인스턴스 공유 검증
+ */
+class JwtUtilTest {
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        // Given: 비밀키·만료시간 설정 후 초기화
+        jwtUtil = new JwtUtil(new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(jwtUtil, "secret", "test-secret-key-must-be-at-least-32-bytes!!");
+        ReflectionTestUtils.setField(jwtUtil, "expireSeconds", 3600L);
+        ReflectionTestUtils.setField(jwtUtil, "cacheSize", 100L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+    }
+
+    @Test
+    @DisplayName("authenticate: 유효한 토큰이면 Principal 을 담은 Authentication 반환")
+    void authenticate_validToken() {
+        // Given: 발급된 토큰
+        String token = jwtUtil.generateToken(USER_ID, "tester", "tester@test.com", "ROLE_USER");
+
+        // When: 인증 변환
+        Authentication auth = jwtUtil.authenticate(token);
+
+        // Then: Principal 및 권한 검증
+        assertThat(auth).isNotNull();
+        CustomUserPrincipal principal = (CustomUserPrincipal) auth.getPrincipal();
+        assertThat(principal.id()).isEqualTo(USER_ID);
+        assertThat(principal.username()).isEqualTo("tester");
+        assertThat(auth.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("authenticate: 같은 토큰 재요청 시 캐시된 Principal 재사용")
+    void authenticate_cached() {
+        // Given: 한 번 인증된 토큰
+        String token = jwtUtil.generateToken(USER_ID, "tester", "tester@test.com", "ROLE_USER");
+        Authentication first = jwtUtil.authenticate(token);
+
+        // When: 재인증
+        Authentication second = jwtUtil.authenticate(token);
+
+        // Then: 동일 Principal 인스턴스
+        assertThat(second.getPrincipal()).isSameAs(first.getPrincipal());
+    }
+
+    @Test
+    @DisplayName("authenticate: 사용자가 달라도 같은 역할이면 권한 목록 인스턴스 공유")
+    void authenticate_sharedAuthorities() {
+        // Given: 역할이 같은 두 사용자의 토큰
+        String tokenA = jwtUtil.generateToken(USER_ID, "tester", "tester@test.com", "ROLE_USER");
+        String tokenB = jwtUtil.generateToken(UUID.randomUUID(), "other", "other@test.com", "ROLE_USER");
+
+        // When: 각각 인증
+        CustomUserPrincipal a = (CustomUserPrincipal) jwtUtil.authenticate(tokenA).getPrincipal();
+        CustomUserPrincipal b = (CustomUserPrincipal) jwtUtil.authenticate(tokenB).getPrincipal();
+
+        // Then: 역할 Set·권한 목록 모두 레지스트리의 동일 인스턴스
+        assertThat(b.roles()).isSameAs(a.roles());
+        assertThat(b.getAuthorities()).isSameAs(a.getAuthorities());
+        assertThat(a.getAuthorities()).containsExactly(RoleAuthorities.of(RoleEnum.USER));
+    }
+
+    @Test
+    @DisplayName("authenticate: 위·변조된 토큰이면 null 반환")
+    void authenticate_tamperedToken() {
+        // Given: 서명 일부를 변경한 토큰
+        String token = jwtUtil.generateToken(USER_ID, "tester", "tester@test.com", "ROLE_USER");
+        String tampered = token.substring(0, token.length() - 2)
+                + (token.endsWith("AA") ? "BB" : "AA");
+
+        // When & Then: 인증 실패
+        assertThat(jwtUtil.authenticate(tampered)).isNull();
+        assertThat(jwtUtil.validate(tampered)).isFalse();
+    }
+}
@@ -1,11 +1,11 @@
 package io.github.leehanryang.sundriesapi.security.oauth2;
 
 import io.github.leehanryang.sundriesapi.common.security.jwt.JwtUtil;
+import io.github.leehanryang.sundriesapi.common.security.oauth2.CustomOAuth2User;
 import io.github.leehanryang.sundriesapi.common.security.oauth2.OAuth2AuthenticationSuccessHandler;
-import io.github.leehanryang.sundriesapi.common.security.oauth2.OAuth2Util;
 import io.github.leehanryang.sundriesapi.domain.dto.UserDTO;
 import io.github.leehanryang.sundriesapi.domain.service.CustomOAuth2UserService;
-import io.github.leehanryang.sundriesapi.domain.service.UserService;
+import io.github.leehanryang.sundriesapi.domain.service.RefreshTokenService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,7 +16,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -30,7 +29,7 @@ import static org.mockito.Mockito.*;
 /**
  * OAuth2AuthenticationSuccessHandler 단위 테스트
  * <p>
- * - onAuthenticationSuccess(): OAuth2 로그인 성공 시 토큰 발급 및 프론트엔드 리다이렉트 URL 검증
+ * - onAuthenticationSuccess(): loadUser 결과 재사용, 토큰 발급 및 프론트엔드 리다이렉트 URL 검증
  */
 @ExtendWith(MockitoExtension.class)
 class OAuth2AuthenticationSuccessHandlerTest {
@@ -38,13 +37,9 @@ class OAuth2AuthenticationSuccessHandlerTest {
     @Mock
     private JwtUtil jwtUtil;
     @Mock
-    private UserService userService;
-    @Mock
     private CustomOAuth2UserService customOAuth2UserService;
     @Mock
-    private OAuth2Util oAuth2Util;
-    @Mock
-    private PasswordEncoder passwordEncoder;
+    private RefreshTokenService refreshTokenService;
 
     @InjectMocks
     private OAuth2AuthenticationSuccessHandler handler;
@@ -56,37 +51,27 @@ class OAuth2AuthenticationSuccessHandlerTest {
     }
 
     @Test
-    @DisplayName("onAuthenticationSuccess: 정상 흐름 — 리다이렉트 URL에 토큰이 추가된다")
+    @DisplayName("onAuthenticationSuccess: 정상 흐름 — loadUser 에서 확정된 사용자로 토큰을 발급한다")
     void onAuthenticationSuccess_success() throws Exception {
-        // Given: OAuth2 로그인 요청 정보 및 mock 객체 설정
+        // Given: OAuth2 로그인 요청 정보 및 loadUser 결과(CustomOAuth2User)
         String provider = "kakao";
         MockHttpServletRequest request = new MockHttpServletRequest();
         request.setRequestURI("/login/oauth2/code/" + provider);
         MockHttpServletResponse response = new MockHttpServletResponse();
 
-        Authentication auth = mock(Authentication.class);
-        OAuth2User oauth2User = mock(OAuth2User.class);
-        when(auth.getPrincipal()).thenReturn(oauth2User);
-
-        Map<String, Object> attrs = Map.of("id", "kk-id");
-        when(oauth2User.getAttributes()).thenReturn(attrs);
-        when(oAuth2Util.extractProviderId(provider, attrs)).thenReturn("kk-id");
-        when(oAuth2Util.extractEmail(provider, attrs)).thenReturn("kakao@test.com");
-        when(oAuth2Util.extractUserName(provider)).thenReturn("kakao_user");
-        when(passwordEncoder.encode(anyString())).thenReturn("encodedPwd");
-
         UserDTO userDto = UserDTO.builder()
                 .id(UUID.randomUUID())
                 .username("kakao_user")
                 .email("kakao@test.com")
                 .roles(Set.of("ROLE_USER"))
                 .build();
-        when(customOAuth2UserService.processOAuth2User(
-                "kakao_user", "kakao@test.com", "encodedPwd", provider, "kk-id"
-        )).thenReturn(userDto);
+        CustomOAuth2User oauth2User = new CustomOAuth2User(userDto, Map.of("id", "kk-id"), "id");
+        Authentication auth = mock(Authentication.class);
+        when(auth.getPrincipal()).thenReturn(oauth2User);
         when(jwtUtil.generateToken(
                 userDto.getId(), userDto.getUsername(), userDto.getEmail(), "ROLE_USER"
         )).thenReturn("jwt-token");
+        when(refreshTokenService.issue(userDto.getId())).thenReturn("refresh-token");
 
         // When: 로그인 성공 핸들러 호출
         handler.onAuthenticationSuccess(request, response, auth);
@@ -95,17 +80,48 @@ class OAuth2AuthenticationSuccessHandlerTest {
         String redirectUrl = response.getRedirectedUrl();
         assertThat(redirectUrl)
                 .startsWith("http://frontend/login/oauth2/code/" + provider)
-                .contains("token=jwt-token");
-
-        // And: 필요한 서비스 및 util 호출 검증
-        verify(oAuth2Util).extractProviderId(provider, attrs);
-        verify(oAuth2Util).extractEmail(provider, attrs);
-        verify(oAuth2Util).extractUserName(provider);
-        verify(customOAuth2UserService).processOAuth2User(
-                "kakao_user", "kakao@test.com", "encodedPwd", provider, "kk-id"
-        );
+                .contains("?token=jwt-token")
+                .endsWith("#refresh_token=refresh-token");
+        assertThat(redirectUrl.substring(0, redirectUrl.indexOf('#'))).doesNotContain("refresh_token");
+
+        // And: 사용자 재조회 없이 토큰만 발급
+        verifyNoInteractions(customOAuth2UserService);
         verify(jwtUtil).generateToken(
                 userDto.getId(), userDto.getUsername(), userDto.getEmail(), "ROLE_USER"
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("onAuthenticationSuccess: 다른 UserService 를 거친 OAuth2User 면 속성으로 한 번 조회한다")
+    void onAuthenticationSuccess_fallback() throws Exception {
+        // Given: CustomOAuth2User 가 아닌 principal
+        String provider = "google";
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRequestURI("/login/oauth2/code/" + provider);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        Map<String, Object> attrs = Map.of("sub", "g-id");
+        OAuth2User oauth2User = mock(OAuth2User.class);
+        when(oauth2User.getAttributes()).thenReturn(attrs);
+        Authentication auth = mock(Authentication.class);
+        when(auth.getPrincipal()).thenReturn(oauth2User);
+
+        UserDTO userDto = UserDTO.builder()
+                .id(UUID.randomUUID())
+                .username("google_user")
+                .email("google@test.com")
+                .roles(Set.of("ROLE_USER"))
+                .build();
+        when(customOAuth2UserService.resolveUser(provider, attrs)).thenReturn(userDto);
+        when(jwtUtil.generateToken(
+                userDto.getId(), userDto.getUsername(), userDto.getEmail(), "ROLE_USER"
+        )).thenReturn("jwt-token");
+
+        // When: 로그인 성공 핸들러 호출
+        handler.onAuthenticationSuccess(request, response, auth);
+
+        // Then: 사용자 조회 1회 후 토큰 발급
+        verify(customOAuth2UserService, times(1)).resolveUser(provider, attrs);
+        assertThat(response.getRedirectedUrl()).contains("token=jwt-token");
+    }
+}
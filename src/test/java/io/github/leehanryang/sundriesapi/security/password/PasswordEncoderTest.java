@@ -0,0 +1,111 @@
+package io.github.leehanryang.sundriesapi.security.password;
+
+import io.github.leehanryang.sundriesapi.common.exception.ServiceBusyException;
+import io.github.leehanryang.sundriesapi.common.security.AdaptiveBCryptPasswordEncoder;
+import io.github.leehanryang.sundriesapi.common.security.OffloadedPasswordEncoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 비밀번호 인코더 단위 테스트
+ * <p>
+ * - OffloadedPasswordEncoder: 전용 풀 실행 및 대기열 포화 시 503 거절 검증
+ * - AdaptiveBCryptPasswordEncoder: cost 범위 보정 및 재해시 판단 검증
+ */
+class PasswordEncoderTest {
+
+    @Test
+    @DisplayName("OffloadedPasswordEncoder: 해시는 전용 스레드에서 실행된다")
+    void offloaded_runsOnHashThread() {
+        // Given: 실행 스레드 이름을 돌려주는 인코더
+        PasswordEncoder threadName = new StubEncoder(() -> Thread.currentThread().getName());
+
+        try (OffloadedPasswordEncoder encoder = new OffloadedPasswordEncoder(threadName, 1, 1, 1)) {
+            // When & Then: password-hash 스레드에서 실행
+            assertThat(encoder.encode("pw")).startsWith("password-hash-");
+        }
+    }
+
+    @Test
+    @DisplayName("OffloadedPasswordEncoder: 스레드·대기열이 모두 차면 ServiceBusyException")
+    void offloaded_rejectsWhenSaturated() throws Exception {
+        // Given: 스레드 1, 대기열 1 – 첫 작업이 멈춰 있는 상태
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new StubEncoder(() -> {
+            started.countDown();
+            release.await();
+            return "done";
+        });
+
+        try (OffloadedPasswordEncoder encoder = new OffloadedPasswordEncoder(blocking, 1, 1, 3)) {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("a"));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("b"));
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (encoder.queueDepth() == 0) {
+                assertThat(System.nanoTime()).as("두 번째 작업이 대기열에 들어가지 않음").isLessThan(deadline);
+                Thread.onSpinWait();
+            }
+
+            // When & Then: 세 번째 요청은 즉시 거절, Retry-After 값 유지
+            assertThatThrownBy(() -> encoder.encode("c"))
+                    .isInstanceOf(ServiceBusyException.class)
+                    .extracting("retryAfterSeconds").isEqualTo(3L);
+
+            release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("done");
+        }
+    }
+
+    @Test
+    @DisplayName("AdaptiveBCryptPasswordEncoder: 현재 cost 보다 낮은 해시만 재해시 대상")
+    void adaptive_upgradeEncoding() {
+        // Given: cost 5 고정 (최소 = 최대 – 측정값과 무관하게 cost 가 변하지 않음)
+        AdaptiveBCryptPasswordEncoder encoder = new AdaptiveBCryptPasswordEncoder(250, 5, 5);
+        String current = encoder.encode("pw");
+        String weaker = new BCryptPasswordEncoder(4).encode("pw");
+        String stronger = new BCryptPasswordEncoder(6).encode("pw");
+
+        // Then: 낮은 cost 만 재해시, 같거나 높은 cost·비 BCrypt 값은 유지
+        assertThat(encoder.getStrength()).isEqualTo(5);
+        assertThat(encoder.matches("pw", current)).isTrue();
+        assertThat(encoder.matches("pw", weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(current)).isFalse();
+        assertThat(encoder.upgradeEncoding(weaker)).isTrue();
+        assertThat(encoder.upgradeEncoding(stronger)).isFalse();
+        assertThat(encoder.upgradeEncoding("!")).isFalse();
+    }
+
+    /* 인코딩 결과를 공급자로 결정하는 테스트용 인코더 */
+    private record StubEncoder(ThrowingSupplier supplier) implements PasswordEncoder {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            try {
+                return supplier.get();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ThrowingSupplier {
+        String get() throws Exception;
+    }
+}